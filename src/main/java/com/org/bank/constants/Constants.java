@@ -16,5 +16,11 @@ public final class Constants {
             CURRENT_USER_DIR);
     public static final String SCREEN_SHOT_DIR = String.format("%s/src/test/resources/executionArtifacts/screenshots",
             CURRENT_USER_DIR);
+    public static final String DRIVER_CACHE_FILE_PATH = String.format("%s/target/driver-cache/driver-binaries.properties",
+            CURRENT_USER_DIR);
+    public static final String CHROME_PROFILE_TEMPLATE_DIR = String.format("%s/target/chrome-profile-template",
+            CURRENT_USER_DIR);
+    public static final String COMMAND_LATENCY_FILE_PATH = String.format(
+            "%s/src/test/resources/executionArtifacts/reports/command-latency.json", CURRENT_USER_DIR);
     public static final String RETRY_FILE_PATH = String.format("%s/src/test/resources/retry-tests.txt", CURRENT_USER_DIR);
 }
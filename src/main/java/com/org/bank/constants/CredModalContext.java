@@ -1,16 +1,23 @@
 package com.org.bank.constants;
 
 import com.org.bank.models.CredModal;
-import lombok.Getter;
-import lombok.Setter;
 
 public final class CredModalContext {
 
     private CredModalContext() {
     }
 
-    @Getter
-    @Setter
-    private static CredModal credModal;
+    /**
+     * The credentials are kept per thread, so browsers fanned out in parallel each log in with their own credentials.
+     */
+    private static final ThreadLocal<CredModal> CRED_MODAL = new ThreadLocal<>();
+
+    public static CredModal getCredModal() {
+        return CRED_MODAL.get();
+    }
+
+    public static void setCredModal(CredModal credModal) {
+        CRED_MODAL.set(credModal);
+    }
 
 }
@@ -1,40 +1,78 @@
 package com.org.bank.constants;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
 
+/**
+ * This class keeps track of the WebDriver session used by every test instance.
+ * <p>
+ * The registry is safe to use from parallel test threads. A session is registered for the test instance that
+ * opened it only, so a listener always gets the session of the test it reports on, even when TestNG runs the
+ * listener on another thread. The session is removed when it is released and when it quits, whoever quits it.
+ */
 public final class WebDriverContext {
 
     private WebDriverContext() {
     }
 
-    private static final Map<String, WebDriver> WEB_DRIVER_CONTEXT = new HashMap<>();
+    private static final Map<Object, WebDriver> TEST_INSTANCE_CONTEXT = new ConcurrentHashMap<>();
 
     /**
-     * This static method is used to set the WebDriver context for a specific class.
-     * It takes the class name and a WebDriver instance as parameters.
-     * The method stores the WebDriver instance in a Hashtable with the class name as the key.
-     * This allows for different WebDriver instances to be associated with different classes.
+     * This static method is used to set the WebDriver context for a test instance.
+     * It takes the test instance and a WebDriver instance as parameters.
+     * This allows for different WebDriver instances to be associated with instances of the same class
+     * running in parallel, e.g. once per browser in a cross-browser fan-out.
      *
-     * @param className The name of the class for which the WebDriver context is to be set.
-     * @param driver    The WebDriver instance to be set for the class.
+     * @param testInstance The test class instance the session belongs to.
+     * @param driver       The WebDriver instance to be set for the test instance.
      */
-    public static void setWebDriverContext(String className, WebDriver driver) {
-        WEB_DRIVER_CONTEXT.put(className, driver);
+    public static void setWebDriverContext(Object testInstance, WebDriver driver) {
+        TEST_INSTANCE_CONTEXT.put(testInstance, driver);
     }
 
     /**
-     * This static method is used to get the WebDriver context for a specific class.
-     * It takes the class name as a parameter.
-     * The method retrieves the WebDriver instance from a Hashtable using the class name as the key.
-     * This allows for different WebDriver instances to be retrieved for different classes.
+     * This static method is used to get the WebDriver context for a test instance.
+     * It takes the test instance as a parameter.
+     * A session that has quit without being removed is removed now and not returned.
      *
-     * @param className The name of the class for which the WebDriver context is to be retrieved.
-     * @return The WebDriver instance associated with the class.
+     * @param testInstance The test class instance for which the WebDriver context is to be retrieved.
+     * @return The WebDriver instance registered for the test instance, or null if there is none.
      */
-    public static WebDriver getWebDriverContext(String className) {
-        return WEB_DRIVER_CONTEXT.get(className);
+    public static WebDriver getWebDriverContext(Object testInstance) {
+        if (Objects.isNull(testInstance)) {
+            return null;
+        }
+        WebDriver driver = TEST_INSTANCE_CONTEXT.get(testInstance);
+        if (driver instanceof RemoteWebDriver && Objects.isNull(((RemoteWebDriver) driver).getSessionId())) {
+            TEST_INSTANCE_CONTEXT.remove(testInstance, driver);
+            return null;
+        }
+        return driver;
+    }
+
+    /**
+     * This static method is used to remove a WebDriver instance from the context.
+     * It is called when a session is released, so quit sessions are never handed out and do not leak.
+     *
+     * @param driver The WebDriver instance to be removed.
+     */
+    public static void removeWebDriverContext(WebDriver driver) {
+        TEST_INSTANCE_CONTEXT.values().removeIf(registeredDriver -> registeredDriver == driver);
+    }
+
+    /**
+     * This static method is used to remove the WebDriver instance of a session from the context.
+     * It is called when the session quits, e.g. when a session pool shuts down or the health watchdog recycles it.
+     *
+     * @param sessionId The id of the session that quits.
+     */
+    public static void removeWebDriverContext(SessionId sessionId) {
+        TEST_INSTANCE_CONTEXT.values().removeIf(registeredDriver -> registeredDriver instanceof RemoteWebDriver
+                && sessionId.equals(((RemoteWebDriver) registeredDriver).getSessionId()));
     }
 }
@@ -0,0 +1,178 @@
+package com.org.bank.driverfactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.org.bank.constants.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+/**
+ * This class builds a warmed Chrome profile once per run and hands every session its own copy of it.
+ * <p>
+ * The template is created by a throwaway session that opens the configured url and testUrl, so first-run work is
+ * done and the HTTP cache already holds the application assets when a test session starts. Each session gets a
+ * copy of the template as its user-data-dir, which is deleted again when the session quits.
+ * <p>
+ * quit() returns before Chrome has always finished writing its profile, so a profile is only copied or deleted once
+ * Chrome removed its SingletonLock, which it does last when it exits.
+ */
+@Slf4j
+public final class ChromeProfileTemplate {
+
+    private static final String SINGLETON_LOCK = "SingletonLock";
+    private static final Set<String> SKIPPED_FILES = Set.of(SINGLETON_LOCK, "SingletonSocket", "SingletonCookie",
+            "lockfile");
+    private static final Duration BROWSER_EXIT_TIMEOUT = Duration.ofSeconds(10);
+    private static Path templateDir;
+
+    private ChromeProfileTemplate() {
+    }
+
+    /**
+     * This method checks whether sessions should start from the profile template.
+     *
+     * @return true if chrome.profile.template.enabled is set to true.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(DriverFactory.getConfigurationValue("chrome.profile.template.enabled", "false"));
+    }
+
+    /**
+     * This method copies the template into a new user-data-dir, building the template first if needed.
+     *
+     * @param chromeOptions The options of the session, the template is built with the same arguments.
+     * @return The user-data-dir for one session.
+     */
+    public static Path newSessionProfile(ChromeOptions chromeOptions) {
+        Path template = getTemplate(chromeOptions);
+        Path sessionProfile = null;
+        try {
+            sessionProfile = Files.createTempDirectory("chrome-profile-");
+            copyDirectory(template, sessionProfile);
+            return sessionProfile;
+        } catch (IOException e) {
+            if (Objects.nonNull(sessionProfile)) {
+                deleteSessionProfile(sessionProfile);
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * This method deletes the user-data-dir of a session that has quit or could not be created.
+     *
+     * @param sessionProfile The user-data-dir to delete.
+     */
+    public static void deleteSessionProfile(Path sessionProfile) {
+        waitForBrowserExit(sessionProfile);
+        try {
+            deleteDirectory(sessionProfile);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Unable to delete Chrome profile {} with error message : {}", sessionProfile, e.getMessage());
+        }
+    }
+
+    /**
+     * This method builds the template on first use by visiting the configured pages with a throwaway session.
+     *
+     * @param chromeOptions The options the template session starts with.
+     * @return The directory of the template.
+     */
+    private static synchronized Path getTemplate(ChromeOptions chromeOptions) {
+        if (Objects.nonNull(templateDir)) {
+            return templateDir;
+        }
+        Path template = Paths.get(Constants.CHROME_PROFILE_TEMPLATE_DIR);
+        long start = System.currentTimeMillis();
+        try {
+            deleteDirectory(template);
+            Files.createDirectories(template);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ChromeOptions templateOptions = new ChromeOptions().merge(chromeOptions);
+        templateOptions.addArguments("--user-data-dir=" + template.toAbsolutePath());
+        ChromeDriverService chromeDriverService = SharedDriverServices.getChromeDriverService(templateOptions);
+        ChromiumDriver templateDriver = new SharedServiceChromiumDriver(chromeDriverService.getUrl(), templateOptions,
+                ChromeOptions.CAPABILITY);
+        try {
+            for (String key : List.of("url", "testUrl")) {
+                String url = DriverFactory.getConfigurationValue(key, "");
+                if (!url.isEmpty()) {
+                    templateDriver.get(url);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Unable to warm the Chrome profile template with error message : {}", e.getMessage());
+        } finally {
+            templateDriver.quit();
+        }
+        waitForBrowserExit(template);
+        templateDir = template;
+        log.info("Built Chrome profile template at {} in {} ms", template, System.currentTimeMillis() - start);
+        return templateDir;
+    }
+
+    /**
+     * This method waits until Chrome removed the SingletonLock of a profile, for at most 10 seconds.
+     *
+     * @param profile The user-data-dir of a session that has quit.
+     */
+    private static void waitForBrowserExit(Path profile) {
+        Path singletonLock = profile.resolve(SINGLETON_LOCK);
+        long deadline = System.nanoTime() + BROWSER_EXIT_TIMEOUT.toNanos();
+        try {
+            while (Files.exists(singletonLock, LinkOption.NOFOLLOW_LINKS)) {
+                if (System.nanoTime() - deadline >= 0) {
+                    log.warn("Chrome still holds the profile {} after {} s", profile, BROWSER_EXIT_TIMEOUT.getSeconds());
+                    return;
+                }
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                if (Files.isSymbolicLink(path) || SKIPPED_FILES.contains(path.getFileName().toString())) {
+                    continue;
+                }
+                Path copy = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(copy);
+                } else {
+                    Files.copy(path, copy);
+                }
+            }
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
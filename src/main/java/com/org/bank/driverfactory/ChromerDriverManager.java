@@ -1,8 +1,12 @@
 package com.org.bank.driverfactory;
 
+import java.nio.file.Path;
+import java.util.Objects;
+
 import lombok.extern.slf4j.Slf4j;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
 
 /**
  * This class contains the method related ot chrome class
@@ -15,14 +19,16 @@ public final class ChromerDriverManager implements DriverManager {
 
 
     /**
-     * This method is responsible for creating and returning a ChromeDriver instance.
-     * It first creates a ChromeOptions object, which can be used to customize the behavior of the ChromeDriver.
-     * Then, it creates a new ChromeDriver using these options and returns it.
+     * This method is responsible for creating and returning a Chrome session.
+     * It first creates a ChromeOptions object, which can be used to customize the behavior of the session.
+     * When the profile template is enabled, the session starts from its own copy of the warmed template profile.
+     * Then, it opens the session on the shared chromedriver service, installs the pending request tracker,
+     * attaches the lean network mode when it is enabled and returns it.
      *
-     * @return A new instance of ChromeDriver with the specified options.
+     * @return A new Chrome session with the specified options.
      */
     @Override
-    public ChromeDriver getWebDriver() {
+    public ChromiumDriver getWebDriver() {
         ChromeOptions chromeOptions = new ChromeOptions();
         chromeOptions.addArguments("--headless");
         chromeOptions.addArguments("--no-sandbox");
@@ -30,6 +36,28 @@ public final class ChromerDriverManager implements DriverManager {
         chromeOptions.addArguments("--disable-gpu");
         chromeOptions.addArguments("--ignore-ssl-errors=yes");
         chromeOptions.addArguments("--ignore-certificate-errors");
-        return new ChromeDriver(chromeOptions);
+        chromeOptions.setPageLoadStrategy(DriverFactory.getPageLoadStrategy());
+        ChromeDriverService chromeDriverService = SharedDriverServices.getChromeDriverService(chromeOptions);
+        Runnable afterQuit = null;
+        if (ChromeProfileTemplate.isEnabled()) {
+            Path sessionProfile = ChromeProfileTemplate.newSessionProfile(chromeOptions);
+            chromeOptions.addArguments("--user-data-dir=" + sessionProfile.toAbsolutePath());
+            afterQuit = () -> ChromeProfileTemplate.deleteSessionProfile(sessionProfile);
+        }
+        Runnable deleteProfile = afterQuit;
+        ChromiumDriver chromeDriver;
+        try {
+            chromeDriver = DriverStartupTimer.time(DriverStartupTimer.SESSION_HANDSHAKE,
+                    () -> new SharedServiceChromiumDriver(chromeDriverService.getUrl(), chromeOptions,
+                            ChromeOptions.CAPABILITY, deleteProfile));
+        } catch (RuntimeException e) {
+            if (Objects.nonNull(deleteProfile)) {
+                deleteProfile.run();
+            }
+            throw e;
+        }
+        PendingRequestTracker.install(chromeDriver);
+        LeanNetworkInterceptor.attachIfEnabled(chromeDriver);
+        return chromeDriver;
     }
 }
@@ -0,0 +1,153 @@
+package com.org.bank.driverfactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This class records the latency of every WebDriver command in histograms, keyed by test, page object and command.
+ * <p>
+ * The commands are recorded by the {@link MonitoredCommandExecutor} of Chrome, Edge and remote sessions, on the thread
+ * that sends them. The page object is the first class of the com.org.bank.pages package on the call stack and the
+ * test is set by the listener when a test starts. At the end of the suite the histograms are written as JSON with the
+ * p50, p90 and p99 of every command, overall, per page object and per test:
+ * <pre>
+ * command.latency.histograms.enabled=true
+ * </pre>
+ */
+@Slf4j
+public final class CommandLatencyHistograms {
+
+    private static final String PAGES_PACKAGE = "com.org.bank.pages.";
+    private static final String NONE = "(none)";
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            DriverFactory.getConfigurationValue("command.latency.histograms.enabled", "true"));
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final ThreadLocal<String> TEST_NAME = new ThreadLocal<>();
+    private static final Map<HistogramKey, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private CommandLatencyHistograms() {
+    }
+
+    /**
+     * This method sets the test the commands of the current thread belong to.
+     *
+     * @param testName The name of the test, or null when the thread is not running a test any more.
+     */
+    public static void setTestName(String testName) {
+        if (Objects.isNull(testName)) {
+            TEST_NAME.remove();
+        } else {
+            TEST_NAME.set(testName);
+        }
+    }
+
+    /**
+     * This method records the latency of a command sent by the current thread.
+     *
+     * @param commandName The name of the WebDriver command, e.g. findElement.
+     * @param nanos       The latency of the command in nanoseconds.
+     */
+    static void record(String commandName, long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        String testName = Objects.requireNonNullElse(TEST_NAME.get(), NONE);
+        HistogramKey histogramKey = new HistogramKey(testName, getPageName(), commandName);
+        HISTOGRAMS.computeIfAbsent(histogramKey, key -> new LatencyHistogram()).record(nanos / 1_000);
+    }
+
+    /**
+     * This method writes the histograms as JSON.
+     *
+     * @param path The file to write to.
+     */
+    public static void writeHistograms(String path) {
+        if (!ENABLED || HISTOGRAMS.isEmpty()) {
+            return;
+        }
+        Map<String, LatencyHistogram> commands = new TreeMap<>();
+        Map<String, Map<String, LatencyHistogram>> pages = new TreeMap<>();
+        Map<String, Map<String, Map<String, LatencyHistogram>>> tests = new TreeMap<>();
+        HISTOGRAMS.forEach((key, histogram) -> {
+            commands.computeIfAbsent(key.commandName, name -> new LatencyHistogram()).add(histogram);
+            pages.computeIfAbsent(key.pageName, name -> new TreeMap<>())
+                    .computeIfAbsent(key.commandName, name -> new LatencyHistogram()).add(histogram);
+            tests.computeIfAbsent(key.testName, name -> new TreeMap<>())
+                    .computeIfAbsent(key.pageName, name -> new TreeMap<>())
+                    .put(key.commandName, histogram);
+        });
+        Map<String, Object> report = new TreeMap<>();
+        report.put("commands", summarise(commands));
+        report.put("pages", summarise(pages));
+        report.put("tests", summarise(tests));
+        try {
+            File file = new File(path);
+            file.getParentFile().mkdirs();
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+            log.info("Wrote the command latency histograms to {}", path);
+        } catch (IOException e) {
+            log.error("Error occurred while writing the command latency histograms to {} with error message : {}",
+                    path, e.getMessage());
+        }
+    }
+
+    /**
+     * This method replaces the histograms of a nested map with their summaries.
+     */
+    private static Object summarise(Object value) {
+        if (value instanceof LatencyHistogram) {
+            return ((LatencyHistogram) value).getSummary();
+        }
+        Map<String, Object> summaries = new TreeMap<>();
+        ((Map<?, ?>) value).forEach((key, nested) -> summaries.put(String.valueOf(key), summarise(nested)));
+        return summaries;
+    }
+
+    private static String getPageName() {
+        return STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getClassName)
+                .filter(className -> className.startsWith(PAGES_PACKAGE))
+                .map(className -> className.substring(PAGES_PACKAGE.length()).split("\\$")[0])
+                .findFirst()
+                .orElse(NONE));
+    }
+
+    /**
+     * The test, page object and command a histogram belongs to.
+     */
+    private static final class HistogramKey {
+
+        private final String testName;
+        private final String pageName;
+        private final String commandName;
+
+        private HistogramKey(String testName, String pageName, String commandName) {
+            this.testName = testName;
+            this.pageName = pageName;
+            this.commandName = commandName;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof HistogramKey)) {
+                return false;
+            }
+            HistogramKey histogramKey = (HistogramKey) other;
+            return testName.equals(histogramKey.testName) && pageName.equals(histogramKey.pageName)
+                    && commandName.equals(histogramKey.commandName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(testName, pageName, commandName);
+        }
+    }
+}
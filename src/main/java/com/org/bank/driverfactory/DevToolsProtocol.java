@@ -0,0 +1,219 @@
+package com.org.bank.driverfactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v117.dom.model.Rect;
+import org.openqa.selenium.devtools.v117.fetch.Fetch;
+import org.openqa.selenium.devtools.v117.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v117.network.Network;
+import org.openqa.selenium.devtools.v117.network.model.ErrorReason;
+import org.openqa.selenium.devtools.v117.network.model.ResourceType;
+import org.openqa.selenium.devtools.v117.page.Page;
+import org.openqa.selenium.devtools.v117.page.model.Viewport;
+import org.openqa.selenium.devtools.v117.performance.Performance;
+import org.openqa.selenium.devtools.v117.performance.model.Metric;
+import org.openqa.selenium.devtools.v117.storage.Storage;
+
+/**
+ * This class holds every DevTools call of the framework that has no version independent API in Selenium.
+ * <p>
+ * The calls use the generated bindings of DevTools protocol version {@value #PROTOCOL_VERSION}, the newest this
+ * Selenium release ships. A newer Chrome or Edge mostly keeps these commands, but a renamed or removed command
+ * fails at runtime, so the first session of a browser version that does not match logs a warning. The features
+ * built on these calls catch the failure and fall back, e.g. screenshots are then taken through WebDriver.
+ * Calls that Selenium offers version independently, such as pinning a script, go through
+ * {@link DevTools#getDomains()} instead.
+ */
+@Slf4j
+public final class DevToolsProtocol {
+
+    public static final int PROTOCOL_VERSION = 117;
+
+    private static final Set<String> CHECKED_BROWSER_VERSIONS = ConcurrentHashMap.newKeySet();
+    private static final Map<WebDriver, String> ATTACHED_WINDOW_HANDLES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DevToolsProtocol() {
+    }
+
+    /**
+     * This method returns the DevTools of a session attached to the current window of the session.
+     * When the session moved to another window since the last call, e.g. after the old window was closed, a DevTools
+     * session is attached to the current window, so commands never go to a closed target. Listeners and request
+     * interception added before stay with the window they were added on.
+     * The first session of every browser version is checked against the protocol version of the bindings.
+     *
+     * @param driver The session.
+     * @return The DevTools of the session, or empty if the session has no DevTools.
+     */
+    public static Optional<DevTools> getDevTools(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return Optional.empty();
+        }
+        checkBrowserVersion(driver);
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        String windowHandle = driver.getWindowHandle();
+        synchronized (ATTACHED_WINDOW_HANDLES) {
+            if (!windowHandle.equals(ATTACHED_WINDOW_HANDLES.get(driver))) {
+                devTools.createSession(windowHandle);
+                ATTACHED_WINDOW_HANDLES.put(driver, windowHandle);
+            }
+        }
+        return Optional.of(devTools);
+    }
+
+    /**
+     * This method reports the encoded bytes of every finished request and every request the browser blocked.
+     * The events are sent once the Network domain is enabled by {@link #blockRequests(DevTools, List, List)}.
+     *
+     * @param devTools          The DevTools of the session.
+     * @param onRequestFinished Called with the encoded data length of every finished request.
+     * @param onRequestBlocked  Called for every request failed with a blocked reason.
+     */
+    public static void addNetworkListeners(DevTools devTools, LongConsumer onRequestFinished, Runnable onRequestBlocked) {
+        devTools.addListener(Network.loadingFinished(),
+                loadingFinished -> onRequestFinished.accept(loadingFinished.getEncodedDataLength().longValue()));
+        devTools.addListener(Network.loadingFailed(), loadingFailed -> {
+            if (loadingFailed.getBlockedReason().isPresent()) {
+                onRequestBlocked.run();
+            }
+        });
+    }
+
+    /**
+     * This method fails every request paused by {@link #blockRequests(DevTools, List, List)}.
+     *
+     * @param devTools         The DevTools of the session.
+     * @param onRequestBlocked Called for every failed request.
+     */
+    public static void addBlockedRequestListener(DevTools devTools, Runnable onRequestBlocked) {
+        devTools.addListener(Fetch.requestPaused(), requestPaused -> {
+            onRequestBlocked.run();
+            devTools.send(Fetch.failRequest(requestPaused.getRequestId(), ErrorReason.BLOCKEDBYCLIENT));
+        });
+    }
+
+    /**
+     * This method enables the Network domain, blocks URL patterns and pauses requests of resource types, which the
+     * listener added by {@link #addBlockedRequestListener(DevTools, Runnable)} fails.
+     *
+     * @param devTools      The DevTools of the session.
+     * @param urlPatterns   The URL patterns to block, e.g. *doubleclick.net*.
+     * @param resourceTypes The DevTools resource types to block, e.g. Image, Font.
+     */
+    public static void blockRequests(DevTools devTools, List<String> urlPatterns, List<String> resourceTypes) {
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+        if (!urlPatterns.isEmpty()) {
+            devTools.send(Network.setBlockedURLs(urlPatterns));
+        }
+        if (!resourceTypes.isEmpty()) {
+            List<RequestPattern> requestPatterns = resourceTypes.stream()
+                    .map(resourceType -> new RequestPattern(Optional.of("*"),
+                            Optional.of(ResourceType.fromString(resourceType)), Optional.empty()))
+                    .collect(Collectors.toList());
+            devTools.send(Fetch.enable(Optional.of(requestPatterns), Optional.of(false)));
+        }
+    }
+
+    /**
+     * This method enables the Page domain and reports the security origin of every frame that navigated.
+     *
+     * @param devTools         The DevTools of the session.
+     * @param onFrameNavigated Called with the security origin of every navigated frame, e.g. https://demo.guru99.com.
+     */
+    public static void addFrameNavigatedListener(DevTools devTools, Consumer<String> onFrameNavigated) {
+        devTools.send(Page.enable());
+        devTools.addListener(Page.frameNavigated(),
+                frameNavigated -> onFrameNavigated.accept(frameNavigated.getFrame().getSecurityOrigin()));
+    }
+
+    /**
+     * This method clears the given storage types of an origin.
+     *
+     * @param devTools     The DevTools of the session.
+     * @param origin       The origin, e.g. https://demo.guru99.com.
+     * @param storageTypes The storage types, comma separated, e.g. local_storage,indexeddb.
+     */
+    public static void clearDataForOrigin(DevTools devTools, String origin, String storageTypes) {
+        devTools.send(Storage.clearDataForOrigin(origin, storageTypes));
+    }
+
+    /**
+     * This method clears the cookies of every origin.
+     *
+     * @param devTools The DevTools of the session.
+     */
+    public static void clearBrowserCookies(DevTools devTools) {
+        devTools.send(Network.clearBrowserCookies());
+    }
+
+    /**
+     * This method reads the used JavaScript heap of the attached tab from the Performance metrics.
+     *
+     * @param devTools The DevTools of the session.
+     * @return The used heap in bytes, or empty if the metric is missing.
+     */
+    public static Optional<Long> getJsHeapUsedBytes(DevTools devTools) {
+        devTools.send(Performance.enable(Optional.empty()));
+        return devTools.send(Performance.getMetrics()).stream()
+                .filter(metric -> "JSHeapUsedSize".equals(metric.getName()))
+                .map(Metric::getValue)
+                .map(Number::longValue)
+                .findFirst();
+    }
+
+    /**
+     * This method captures a screenshot of the attached tab.
+     *
+     * @param devTools The DevTools of the session.
+     * @param format   The image format, png, jpeg or webp.
+     * @param quality  The jpeg and webp quality from 0 to 100.
+     * @param fullPage true to capture the whole page instead of the viewport.
+     * @return The base64 encoded screenshot.
+     */
+    public static String captureScreenshot(DevTools devTools, String format, int quality, boolean fullPage) {
+        Page.CaptureScreenshotFormat captureFormat = Page.CaptureScreenshotFormat.fromString(format);
+        Optional<Viewport> clip = Optional.empty();
+        if (fullPage) {
+            Rect contentSize = devTools.send(Page.getLayoutMetrics()).getCssContentSize();
+            clip = Optional.of(new Viewport(0, 0, contentSize.getWidth(), contentSize.getHeight(), 1));
+        }
+        return devTools.send(Page.captureScreenshot(Optional.of(captureFormat),
+                captureFormat == Page.CaptureScreenshotFormat.PNG ? Optional.empty() : Optional.of(quality), clip,
+                Optional.empty(), Optional.of(fullPage), Optional.of(true)));
+    }
+
+    /**
+     * This method logs a warning when the browser of a session speaks another protocol version than the bindings.
+     * Every browser version is checked once per run.
+     */
+    private static void checkBrowserVersion(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return;
+        }
+        String browserVersion = ((HasCapabilities) driver).getCapabilities().getBrowserVersion();
+        if (Objects.isNull(browserVersion) || !CHECKED_BROWSER_VERSIONS.add(browserVersion)) {
+            return;
+        }
+        String majorVersion = browserVersion.split("\\.")[0];
+        if (!String.valueOf(PROTOCOL_VERSION).equals(majorVersion)) {
+            log.warn("Browser version {} does not match the DevTools protocol version {} of the bindings, lean network "
+                            + "mode, storage reset, heap metrics and DevTools screenshots may fail and fall back",
+                    browserVersion, PROTOCOL_VERSION);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.org.bank.driverfactory;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Properties;
+
+import com.org.bank.constants.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * This class caches the driver binaries resolved by Selenium Manager in a properties file under target/.
+ * <p>
+ * Entries are keyed by browser name and requested browser version, and hold the driver path together with the time
+ * it was resolved. An entry is used as long as the binary still exists and the entry is younger than
+ * driver.cache.ttl.hours, so browser updates are picked up once the entry expires.
+ */
+@Slf4j
+public final class DriverBinaryCache {
+
+    private static final String SEPARATOR = "|";
+    private static Properties cachedBinaries;
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * This method returns the driver binary for the given service and options.
+     * It checks the cache first and falls back to Selenium Manager, storing what it resolves.
+     *
+     * @param service      The driver service the binary is resolved for.
+     * @param capabilities The options of the session, which define the browser and its version.
+     * @return The path of the driver binary.
+     */
+    public static synchronized String getDriverPath(DriverService service, Capabilities capabilities) {
+        if (!Boolean.parseBoolean(DriverFactory.getConfigurationValue("driver.cache.enabled", "true"))) {
+            return DriverFinder.getPath(service, capabilities).getDriverPath();
+        }
+        String key = getKey(capabilities);
+        String cachedPath = getCachedPath(key);
+        if (Objects.nonNull(cachedPath)) {
+            log.info("Using cached driver binary for {} : {}", key, cachedPath);
+            return cachedPath;
+        }
+        String driverPath = DriverFinder.getPath(service, capabilities).getDriverPath();
+        cachedBinaries.setProperty(key, driverPath + SEPARATOR + System.currentTimeMillis());
+        store();
+        log.info("Resolved driver binary for {} : {}", key, driverPath);
+        return driverPath;
+    }
+
+    private static String getKey(Capabilities capabilities) {
+        String browserVersion = capabilities.getBrowserVersion();
+        return capabilities.getBrowserName() + "." + (Objects.isNull(browserVersion) || browserVersion.isBlank()
+                ? "stable" : browserVersion);
+    }
+
+    /**
+     * This method returns the cached driver path for a key when the entry is still valid.
+     *
+     * @param key The browser and version key.
+     * @return The cached driver path, or null if there is no valid entry.
+     */
+    private static String getCachedPath(String key) {
+        load();
+        String entry = cachedBinaries.getProperty(key);
+        if (Objects.isNull(entry) || !entry.contains(SEPARATOR)) {
+            return null;
+        }
+        String driverPath = entry.substring(0, entry.lastIndexOf(SEPARATOR));
+        long resolvedAt;
+        try {
+            resolvedAt = Long.parseLong(entry.substring(entry.lastIndexOf(SEPARATOR) + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long ttlMillis = Long.parseLong(DriverFactory.getConfigurationValue("driver.cache.ttl.hours", "24")) * 3_600_000L;
+        if (System.currentTimeMillis() - resolvedAt > ttlMillis || !new File(driverPath).canExecute()) {
+            log.info("Cached driver binary for {} is expired or missing", key);
+            return null;
+        }
+        return driverPath;
+    }
+
+    private static void load() {
+        if (Objects.nonNull(cachedBinaries)) {
+            return;
+        }
+        cachedBinaries = new Properties();
+        File cacheFile = new File(Constants.DRIVER_CACHE_FILE_PATH);
+        if (!cacheFile.exists()) {
+            return;
+        }
+        try (FileReader fileReader = new FileReader(cacheFile)) {
+            cachedBinaries.load(fileReader);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to read driver cache with error message : {}", e.getMessage());
+        }
+    }
+
+    private static void store() {
+        File cacheFile = new File(Constants.DRIVER_CACHE_FILE_PATH);
+        cacheFile.getParentFile().mkdirs();
+        try (FileWriter fileWriter = new FileWriter(cacheFile)) {
+            cachedBinaries.store(fileWriter, "Driver binaries resolved by Selenium Manager");
+        } catch (IOException e) {
+            log.warn("Unable to write driver cache with error message : {}", e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,32 @@
 package com.org.bank.driverfactory;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.org.bank.constants.Constants;
+import com.org.bank.constants.WebDriverContext;
 import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
+import com.org.bank.utils.ElementCache;
 import com.org.bank.utils.FileReaderUtil;
+import com.org.bank.utils.WaitPolicy;
 
 /**
  * This class contains the method related to web-driver initialization
@@ -17,10 +37,30 @@ import com.org.bank.utils.FileReaderUtil;
 @Slf4j
 public final class DriverFactory {
 
+    private static final Map<String, DriverSessionPool> SESSION_POOLS = new ConcurrentHashMap<>();
+    private static final AtomicReference<BootstrappedWebDriver> BOOTSTRAPPED_WEB_DRIVER = new AtomicReference<>();
+    private static final ExecutorService BOOTSTRAP_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("driver-bootstrap-%d")
+            .setDaemon(true)
+            .build());
+
     private final String currentBrowser;
+    private final CompletableFuture<WebDriver> webDriverFuture;
     private final ThreadLocal<WebDriver> threadLocal = new ThreadLocal<>();
 
-    private DriverFactory() {
+    private DriverFactory(String browser) {
+        currentBrowser = Objects.isNull(browser) || browser.isBlank() ? resolveBrowser() : browser.trim();
+        webDriverFuture = claimBootstrappedWebDriver(currentBrowser)
+                .orElseGet(() -> CompletableFuture.supplyAsync(this::openWebDriver, BOOTSTRAP_EXECUTOR));
+    }
+
+    /**
+     * This method resolves the environment and the browser for the run.
+     * System properties take precedence, otherwise both are read from the configuration file.
+     *
+     * @return The browser to run the tests on.
+     */
+    private static String resolveBrowser() {
         String setEnvironment = System.getProperty("env");
         log.info("Env from property file is : {} ....", setEnvironment);
         String setBrowser = System.getProperty("browser");
@@ -36,14 +76,11 @@ public final class DriverFactory {
                 log.error("Error occurred while setting the env variables with error message : {} ", e.getMessage());
             }
         }
-        String currentEnvironment = setEnvironment;
-        currentBrowser = setBrowser;
-        log.info("Current environment is : {}", currentEnvironment);
-        log.info("Browser for running is : {}", currentBrowser);
-        threadLocal.set(setupWebDriver());
+        log.info("Current environment is : {}", setEnvironment);
+        log.info("Browser for running is : {}", setBrowser);
+        return setBrowser;
     }
 
-
     /**
      * This method is used to create a new instance of the DriverFactory class.
      * It uses the private constructor of the DriverFactory class to create the new instance.
@@ -51,22 +88,77 @@ public final class DriverFactory {
      * @return A new instance of the DriverFactory class.
      */
     public static DriverFactory newDriverFactory() {
-        return new DriverFactory();
+        return new DriverFactory(null);
     }
 
     /**
-     * This method is responsible for setting up the WebDriver based on the current browser.
-     * It first creates a DriverManager object based on the current browser.
-     * Then, it logs the browser launch message and returns the WebDriver from the DriverManager.
+     * This method is used to create a new instance of the DriverFactory class for a given browser.
+     * It is used by the cross-browser fan-out, where every fanned-out test passes its own browser.
+     * A null or blank browser falls back to the browser of the run.
+     *
+     * @param browser The browser to launch, e.g. chrome or firefox.
+     * @return A new instance of the DriverFactory class.
+     */
+    public static DriverFactory newDriverFactory(String browser) {
+        return new DriverFactory(browser);
+    }
+
+    /**
+     * This method starts launching a browser session as soon as the suite starts, before any test class asks for it.
+     * The first DriverFactory created for the same browser takes over the session instead of launching its own.
+     * Calling it again while a bootstrapped session is still unclaimed has no effect.
+     */
+    public static void bootstrapWebDriver() {
+        String browser = resolveBrowser();
+        if (isSessionPoolEnabled() || isSessionReuseEnabled()) {
+            BOOTSTRAP_EXECUTOR.submit(() -> getSessionPool(browser));
+            return;
+        }
+        BootstrappedWebDriver bootstrappedWebDriver = new BootstrappedWebDriver(browser.toLowerCase(),
+                new CompletableFuture<>());
+        if (BOOTSTRAPPED_WEB_DRIVER.compareAndSet(null, bootstrappedWebDriver)) {
+            log.info("Bootstrapping the browser : {} in the background", browser.toLowerCase());
+            bootstrappedWebDriver.future.completeAsync(() -> getDriverManager(browser).getWebDriver(), BOOTSTRAP_EXECUTOR);
+        }
+    }
+
+    /**
+     * This method hands over the bootstrapped session when it was started for the given browser.
+     *
+     * @param browser The browser the caller needs.
+     * @return The future of the bootstrapped session, or empty if there is none for the browser.
+     */
+    private static Optional<CompletableFuture<WebDriver>> claimBootstrappedWebDriver(String browser) {
+        BootstrappedWebDriver bootstrappedWebDriver = BOOTSTRAPPED_WEB_DRIVER.get();
+        if (Objects.nonNull(bootstrappedWebDriver) && bootstrappedWebDriver.browser.equals(browser.toLowerCase())
+                && BOOTSTRAPPED_WEB_DRIVER.compareAndSet(bootstrappedWebDriver, null)) {
+            log.info("Using the bootstrapped browser : {}", bootstrappedWebDriver.browser);
+            return Optional.of(bootstrappedWebDriver.future);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * This method opens the session for this factory, either from the session pool or by launching a browser.
      *
      * @return A WebDriver instance corresponding to the current browser.
      */
-    private WebDriver setupWebDriver() {
-        // Create a DriverManager object
-        DriverManager driverManager;
+    private WebDriver openWebDriver() {
+        return isSessionPoolEnabled() || isSessionReuseEnabled() ? getSessionPool(currentBrowser).checkout()
+                : setupWebDriver();
+    }
 
-        // Determine the type of DriverManager to create based on the current browser
-        switch (currentBrowser.toLowerCase()) {
+    /**
+     * This method is responsible for creating the DriverManager for the given browser.
+     * The DriverManager records the startup breakdown of every session it launches.
+     *
+     * @param browser The browser to create the DriverManager for.
+     * @return A DriverManager instance corresponding to the browser.
+     */
+    private static DriverManager getDriverManager(String browser) {
+        DriverManager driverManager;
+        // Determine the type of DriverManager to create based on the browser
+        switch (browser.toLowerCase()) {
             case "firefox":
                 driverManager = new FirefoxDriverManager();
                 break;
@@ -79,9 +171,25 @@ public final class DriverFactory {
             case "remote":
                 driverManager = new RemoteDriverManager();
                 break;
+            case "localgrid":
+                driverManager = new RemoteDriverManager(true);
+                break;
             default:
                 driverManager = new ChromerDriverManager();
         }
+        return DriverStartupTimer.timed(driverManager);
+    }
+
+    /**
+     * This method is responsible for setting up the WebDriver based on the current browser.
+     * It first creates a DriverManager object based on the current browser.
+     * Then, it logs the browser launch message and returns the WebDriver from the DriverManager.
+     *
+     * @return A WebDriver instance corresponding to the current browser.
+     */
+    private WebDriver setupWebDriver() {
+        // Create a DriverManager object
+        DriverManager driverManager = getDriverManager(currentBrowser);
 
         // Log the browser launch message
         log.info("Launching the browser : {}", currentBrowser.toLowerCase());
@@ -90,18 +198,200 @@ public final class DriverFactory {
         return driverManager.getWebDriver();
     }
 
+    /**
+     * This method returns the session pool for the given browser, creating and warming it up on first use.
+     * Without driver.pool.enabled the pool only reuses the sessions returned to it by earlier test classes.
+     * The pool is shut down from a JVM shutdown hook so pooled browsers never outlive the run.
+     *
+     * @param browser The browser of the pool.
+     * @return The {@link DriverSessionPool} for the browser.
+     */
+    private static DriverSessionPool getSessionPool(String browser) {
+        return SESSION_POOLS.computeIfAbsent(browser.toLowerCase(), key -> {
+            int poolSize = Integer.parseInt(getConfigurationValue("driver.pool.size", "2"));
+            Duration checkoutTimeout = Duration.ofSeconds(
+                    Long.parseLong(getConfigurationValue("driver.pool.checkout.timeout", "60")));
+            DriverSessionPool sessionPool = isSessionPoolEnabled()
+                    ? DriverSessionPool.newDriverSessionPool(key, getDriverManager(key), poolSize, checkoutTimeout)
+                    : DriverSessionPool.newReusableSessionPool(key, getDriverManager(key), checkoutTimeout);
+            sessionPool.warmUp();
+            Runtime.getRuntime().addShutdownHook(new Thread(sessionPool::shutdown, "driver-pool-shutdown-" + key));
+            return sessionPool;
+        });
+    }
+
+    /**
+     * This method checks whether sessions should be handed out from the pre-warmed session pool.
+     *
+     * @return true if the session pool is enabled.
+     */
+    private static boolean isSessionPoolEnabled() {
+        return Boolean.parseBoolean(getConfigurationValue("driver.pool.enabled", "false"));
+    }
+
+    /**
+     * This method checks whether a session is handed to the next test class instead of being quit.
+     *
+     * @return true if session reuse is enabled.
+     */
+    private static boolean isSessionReuseEnabled() {
+        return Boolean.parseBoolean(getConfigurationValue("driver.reuse.enabled", "false"));
+    }
+
+    /**
+     * This method returns the page-load strategy of new sessions from driver.page.load.strategy.
+     * EAGER returns from a navigation once the DOM is ready and NONE as soon as the document starts loading,
+     * so pages do not wait for third-party content. Unknown values fall back to NORMAL.
+     *
+     * @return The configured {@link PageLoadStrategy}.
+     */
+    static PageLoadStrategy getPageLoadStrategy() {
+        PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(
+                getConfigurationValue("driver.page.load.strategy", "normal").toLowerCase());
+        return Objects.isNull(pageLoadStrategy) ? PageLoadStrategy.NORMAL : pageLoadStrategy;
+    }
+
+    /**
+     * This method reads a driver setting, giving a system property precedence over the configuration file.
+     * The configuration file is read once, on the first lookup, and every later lookup is served from memory.
+     *
+     * @param key          The key of the setting.
+     * @param defaultValue The value to use when the setting is not defined anywhere.
+     * @return The value of the setting.
+     */
+    public static String getConfigurationValue(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (Objects.nonNull(value) && !value.isBlank()) {
+            return value.trim();
+        }
+        return Configuration.FILE_READER_UTIL.getPropertyValue(key, defaultValue);
+    }
+
+    /**
+     * Holds the configuration file, loaded when a setting is read for the first time.
+     */
+    private static final class Configuration {
+
+        private static final FileReaderUtil FILE_READER_UTIL =
+                FileReaderUtil.newFileReaderUtil(Constants.CONFIG_FILE_PATH);
+
+        private Configuration() {
+        }
+    }
+
     /**
      * This method is used to get the WebDriver instance stored in the ThreadLocal variable.
      * ThreadLocal is used to store data that will be accessed only by a specific thread.
+     * The session is launched in the background, so the first call blocks until the browser is ready.
      *
      * @return The WebDriver instance for the current thread.
      */
     public WebDriver getWebDriver() {
-        return threadLocal.get();
+        WebDriver driver = threadLocal.get();
+        if (Objects.isNull(driver)) {
+            try {
+                driver = webDriverFuture.join();
+            } catch (CompletionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw e;
+            }
+            threadLocal.set(driver);
+        }
+        return driver;
+    }
+
+    /**
+     * This method returns the browser the session of this factory runs on.
+     *
+     * @return The browser of this factory.
+     */
+    public String getBrowser() {
+        return currentBrowser.toLowerCase();
     }
 
     public void removeThreadLocal() {
         threadLocal.remove();
     }
 
+    /**
+     * This method ends the use of a WebDriver session.
+     * A session leased from a session pool is returned to it, any other session is quit.
+     * The command count and latency of monitored sessions are logged first and the session is removed from the
+     * {@link WebDriverContext}, and its element caches and wait policy are forgotten.
+     *
+     * @param driver The WebDriver session to release.
+     */
+    public static void releaseWebDriver(WebDriver driver) {
+        WebDriverContext.removeWebDriverContext(driver);
+        ElementCache.releaseElementCaches(driver);
+        WaitPolicy.releaseWaitPolicy(driver);
+        MonitoredCommandExecutor.getMonitoredCommandExecutor(driver).ifPresent(commandExecutor ->
+                log.info("Releasing the session after {}", commandExecutor.getSummary()));
+        for (DriverSessionPool sessionPool : SESSION_POOLS.values()) {
+            if (sessionPool.isLeased(driver)) {
+                sessionPool.checkin(driver);
+                return;
+            }
+        }
+        driver.quit();
+    }
+
+    /**
+     * This method marks a session as failed when a test failed with a session error, so the session is quit instead
+     * of being reused when it is released.
+     * <p>
+     * A session error is a {@link WebDriverException} in the cause chain of the failure. Assertion failures and the
+     * element errors a page can cause, such as a missing or stale element, an element that cannot be used or a wait
+     * that timed out, leave the session healthy and it is reused.
+     *
+     * @param driver    The WebDriver session a test failed on.
+     * @param throwable The failure of the test.
+     */
+    public static void markWebDriverFailed(WebDriver driver, Throwable throwable) {
+        if (Objects.nonNull(driver) && isSessionError(throwable)) {
+            log.info("Marking the session as failed after : {}", throwable.getClass().getSimpleName());
+            SESSION_POOLS.values().forEach(sessionPool -> sessionPool.markFailed(driver));
+        }
+    }
+
+    private static boolean isSessionError(Throwable throwable) {
+        for (Throwable cause = throwable; Objects.nonNull(cause); cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof NotFoundException || cause instanceof StaleElementReferenceException
+                    || cause instanceof InvalidElementStateException || cause instanceof TimeoutException) {
+                return false;
+            }
+            if (cause instanceof WebDriverException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method quits the sessions no test is using any more.
+     * It shuts down every session pool and quits a bootstrapped session that was never claimed.
+     */
+    public static void shutdownIdleWebDrivers() {
+        SESSION_POOLS.values().forEach(DriverSessionPool::shutdown);
+        SESSION_POOLS.clear();
+        BootstrappedWebDriver bootstrappedWebDriver = BOOTSTRAPPED_WEB_DRIVER.getAndSet(null);
+        if (Objects.nonNull(bootstrappedWebDriver)) {
+            bootstrappedWebDriver.future.thenAccept(WebDriver::quit);
+        }
+    }
+
+    /**
+     * A browser session launched at suite start together with the browser it was launched for.
+     */
+    private static final class BootstrappedWebDriver {
+
+        private final String browser;
+        private final CompletableFuture<WebDriver> future;
+
+        private BootstrappedWebDriver(String browser, CompletableFuture<WebDriver> future) {
+            this.browser = browser;
+            this.future = future;
+        }
+    }
+
 }
@@ -0,0 +1,273 @@
+package com.org.bank.driverfactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+/**
+ * This class keeps a pool of ready browser sessions built by a {@link DriverManager}.
+ * Sessions are handed out with checkout, returned with checkin and the pool is refilled in the background.
+ * <p>
+ * A reusable pool does not refill: it keeps every session that is checked in, so a suite running one class at a
+ * time needs a single browser. Sessions that failed a test are quit instead of being reused.
+ */
+@Slf4j
+public final class DriverSessionPool {
+
+    private static final String BLANK_PAGE = "about:blank";
+    private static final long POLL_INTERVAL_MILLIS = 500;
+    private static final String CLEARED_STORAGE_TYPES = "cookies,local_storage,session_storage,indexeddb,websql,"
+            + "cache_storage,service_workers";
+
+    private final String browser;
+    private final DriverManager driverManager;
+    private final int poolSize;
+    private final boolean refillOnCheckout;
+    private final int maxIdleSessions;
+    private final Duration checkoutTimeout;
+    private final BlockingQueue<WebDriver> idleSessions = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> leasedSessions = ConcurrentHashMap.newKeySet();
+    private final Set<WebDriver> failedSessions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pendingSessions = new AtomicInteger();
+    private final ExecutorService refillExecutor;
+    private volatile boolean closed;
+
+    private DriverSessionPool(String browser, DriverManager driverManager, int poolSize, boolean refillOnCheckout,
+                              Duration checkoutTimeout) {
+        this.browser = browser;
+        this.driverManager = driverManager;
+        this.poolSize = Math.max(1, poolSize);
+        this.refillOnCheckout = refillOnCheckout;
+        this.maxIdleSessions = refillOnCheckout ? this.poolSize : Integer.MAX_VALUE;
+        this.checkoutTimeout = checkoutTimeout;
+        refillExecutor = Executors.newFixedThreadPool(this.poolSize, new ThreadFactoryBuilder()
+                .setNameFormat("driver-pool-" + browser + "-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    public static DriverSessionPool newDriverSessionPool(String browser, DriverManager driverManager, int poolSize,
+                                                         Duration checkoutTimeout) {
+        return new DriverSessionPool(browser, driverManager, poolSize, true, checkoutTimeout);
+    }
+
+    /**
+     * This method creates a pool that only reuses the sessions checked in to it.
+     * Warming it up launches a single session and no session is launched in the background after that.
+     *
+     * @param browser         The browser of the pool.
+     * @param driverManager   The DriverManager launching new sessions.
+     * @param checkoutTimeout How long a checkout waits for the session launched by the warm-up.
+     * @return A reusable session pool.
+     */
+    public static DriverSessionPool newReusableSessionPool(String browser, DriverManager driverManager,
+                                                           Duration checkoutTimeout) {
+        return new DriverSessionPool(browser, driverManager, 1, false, checkoutTimeout);
+    }
+
+    /**
+     * Starts launching sessions in the background until the pool holds its configured number of ready sessions.
+     */
+    public void warmUp() {
+        log.info("Warming up {} session pool with {} sessions", browser, poolSize);
+        refill();
+    }
+
+    /**
+     * Hands out a ready session from the pool.
+     * <p>
+     * If no idle session is available but one is being launched, the caller waits up to the checkout timeout for it.
+     * If the pool is still empty after that, a session is launched on the calling thread.
+     * For a pre-warmed pool every checkout triggers a background refill so the pool stays at its configured size.
+     *
+     * @return A WebDriver session leased to the caller.
+     */
+    public WebDriver checkout() {
+        WebDriver driver = idleSessions.poll();
+        long deadline = System.nanoTime() + checkoutTimeout.toNanos();
+        if (driver == null && pendingSessions.get() > 0) {
+            log.info("No idle {} session, waiting for a session that is being launched", browser);
+        }
+        try {
+            while (driver == null && pendingSessions.get() > 0 && System.nanoTime() < deadline) {
+                driver = idleSessions.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (driver == null) {
+            log.warn("Session pool for {} is empty, launching a session on the calling thread", browser);
+            driver = driverManager.getWebDriver();
+        } else {
+            log.info("Checked out a pooled {} session", browser);
+        }
+        leasedSessions.add(driver);
+        VisitedOrigins.track(driver);
+        if (refillOnCheckout) {
+            refill();
+        }
+        return driver;
+    }
+
+    /**
+     * Returns a leased session to the pool.
+     * <p>
+     * The session state is reset before it is offered to the next caller. A session that failed a test, cannot be
+     * reset or would grow the pool beyond its size is quit instead.
+     *
+     * @param driver The session to return.
+     */
+    public void checkin(WebDriver driver) {
+        if (!leasedSessions.remove(driver)) {
+            log.warn("Session is not leased from the {} pool so quitting it", browser);
+            quitQuietly(driver);
+            return;
+        }
+        if (!closed && !failedSessions.remove(driver) && resetSession(driver) && idleSessions.size() < maxIdleSessions) {
+            idleSessions.offer(driver);
+            log.info("Checked in {} session, idle sessions are : {}", browser, idleSessions.size());
+        } else {
+            quitQuietly(driver);
+        }
+        if (refillOnCheckout) {
+            refill();
+        }
+    }
+
+    /**
+     * Marks a leased session as failed so it is quit instead of reused when it is checked in.
+     *
+     * @param driver The session that failed.
+     */
+    public void markFailed(WebDriver driver) {
+        if (leasedSessions.contains(driver)) {
+            failedSessions.add(driver);
+        }
+    }
+
+    /**
+     * Checks whether the given session is currently leased from this pool.
+     *
+     * @param driver The session to check.
+     * @return true if the session was checked out from this pool and not yet returned.
+     */
+    public boolean isLeased(WebDriver driver) {
+        return leasedSessions.contains(driver);
+    }
+
+    /**
+     * Stops refilling and quits every session owned by the pool.
+     */
+    public void shutdown() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        refillExecutor.shutdownNow();
+        List<WebDriver> sessions = new ArrayList<>(leasedSessions);
+        idleSessions.drainTo(sessions);
+        leasedSessions.clear();
+        failedSessions.clear();
+        sessions.forEach(this::quitQuietly);
+        log.info("Session pool for {} is shut down after quitting {} sessions", browser, sessions.size());
+    }
+
+    /**
+     * Submits background launches until idle plus launching sessions reach the pool size.
+     */
+    private synchronized void refill() {
+        while (!closed && idleSessions.size() + pendingSessions.get() < poolSize) {
+            pendingSessions.incrementAndGet();
+            refillExecutor.submit(this::launchIdleSession);
+        }
+    }
+
+    /**
+     * Launches one session and parks it in the idle queue.
+     */
+    private void launchIdleSession() {
+        try {
+            WebDriver driver = driverManager.getWebDriver();
+            if (closed) {
+                quitQuietly(driver);
+            } else {
+                idleSessions.offer(driver);
+                log.info("Launched a pooled {} session, idle sessions are : {}", browser, idleSessions.size());
+            }
+        } catch (Exception e) {
+            log.error("Error occurred while launching a pooled {} session with error message : {}", browser,
+                    e.getMessage());
+        } finally {
+            pendingSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Clears the state a test can leave behind: extra windows, web storage and cookies.
+     * <p>
+     * The origins to clear are the ones {@link VisitedOrigins} recorded since the session was checked out, plus the
+     * origins of the windows that are still open. Sessions with DevTools clear every storage type of these origins
+     * with Storage.clearDataForOrigin, which also covers IndexedDB, cache storage and service workers, and the cookies
+     * of all origins. Other sessions open every origin in turn and clear its web storage and cookies with WebDriver.
+     *
+     * @param driver The session to reset.
+     * @return true if the session was reset and can be reused.
+     */
+    private boolean resetSession(WebDriver driver) {
+        try {
+            List<String> windowHandles = new ArrayList<>(driver.getWindowHandles());
+            Set<String> origins = new LinkedHashSet<>(VisitedOrigins.removeOrigins(driver));
+            for (int i = windowHandles.size() - 1; i >= 0; i--) {
+                driver.switchTo().window(windowHandles.get(i));
+                VisitedOrigins.getOrigin(driver.getCurrentUrl()).ifPresent(origins::add);
+                if (i > 0) {
+                    driver.close();
+                }
+            }
+            Optional<DevTools> devTools = DevToolsProtocol.getDevTools(driver);
+            if (devTools.isPresent()) {
+                origins.forEach(origin -> DevToolsProtocol.clearDataForOrigin(devTools.get(), origin, CLEARED_STORAGE_TYPES));
+                DevToolsProtocol.clearBrowserCookies(devTools.get());
+            } else {
+                for (String origin : origins) {
+                    if (!origin.equals(VisitedOrigins.getOrigin(driver.getCurrentUrl()).orElse(null))) {
+                        driver.get(origin + "/");
+                    }
+                    ((JavascriptExecutor) driver).executeScript(
+                            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+                    driver.manage().deleteAllCookies();
+                }
+            }
+            driver.get(BLANK_PAGE);
+            return true;
+        } catch (Exception e) {
+            log.warn("Unable to reset {} session with error message : {}", browser, e.getMessage());
+            return false;
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        VisitedOrigins.forget(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.warn("Error occurred while quitting {} session with error message : {}", browser, e.getMessage());
+        }
+    }
+}
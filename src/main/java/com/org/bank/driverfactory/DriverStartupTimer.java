@@ -0,0 +1,97 @@
+package com.org.bank.driverfactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * This class records how long each phase of a browser session start takes.
+ * <p>
+ * The phases of a launch are recorded on the launching thread and bound to the session once it exists.
+ * The first navigation of the session completes the breakdown, which is then logged on one line, e.g.
+ * {@code binary resolve=0ms, service start=0ms, session handshake=1830ms, first navigation=2410ms}.
+ * Phases that a session skips, such as service start on an already running service, are reported as 0ms.
+ */
+@Slf4j
+public final class DriverStartupTimer {
+
+    public static final String BINARY_RESOLVE = "binary resolve";
+    public static final String SERVICE_START = "service start";
+    public static final String SESSION_HANDSHAKE = "session handshake";
+    public static final String FIRST_NAVIGATION = "first navigation";
+
+    private static final ThreadLocal<Map<String, Long>> LAUNCH_TIMINGS = ThreadLocal.withInitial(LinkedHashMap::new);
+    private static final Map<WebDriver, Map<String, Long>> SESSION_TIMINGS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DriverStartupTimer() {
+    }
+
+    /**
+     * This method wraps a DriverManager so every session it launches gets a startup breakdown.
+     *
+     * @param driverManager The DriverManager to wrap.
+     * @return A DriverManager recording the startup phases of its sessions.
+     */
+    public static DriverManager timed(DriverManager driverManager) {
+        return () -> {
+            LAUNCH_TIMINGS.remove();
+            WebDriver driver = driverManager.getWebDriver();
+            Map<String, Long> timings = new LinkedHashMap<>();
+            timings.put(BINARY_RESOLVE, 0L);
+            timings.put(SERVICE_START, 0L);
+            timings.putAll(LAUNCH_TIMINGS.get());
+            LAUNCH_TIMINGS.remove();
+            SESSION_TIMINGS.put(driver, timings);
+            return driver;
+        };
+    }
+
+    /**
+     * This method runs one phase of a launch and records its duration on the launching thread.
+     *
+     * @param phase  The name of the phase.
+     * @param action The work of the phase.
+     * @param <T>    The type of the result.
+     * @return The result of the action.
+     */
+    public static <T> T time(String phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            LAUNCH_TIMINGS.get().merge(phase, (System.nanoTime() - start) / 1_000_000, Long::sum);
+        }
+    }
+
+    /**
+     * This method runs a navigation and completes the startup breakdown when it is the first one of the session.
+     *
+     * @param driver     The session that navigates.
+     * @param navigation The navigation to run.
+     */
+    public static void timeNavigation(WebDriver driver, Runnable navigation) {
+        Map<String, Long> timings = SESSION_TIMINGS.get(driver);
+        if (Objects.isNull(timings) || timings.containsKey(FIRST_NAVIGATION)) {
+            navigation.run();
+            return;
+        }
+        long start = System.nanoTime();
+        navigation.run();
+        timings.put(FIRST_NAVIGATION, (System.nanoTime() - start) / 1_000_000);
+        log.info("Browser startup breakdown : {}", getBreakdown(timings));
+    }
+
+    private static String getBreakdown(Map<String, Long> timings) {
+        StringBuilder breakdown = new StringBuilder();
+        timings.forEach((phase, millis) -> breakdown.append(breakdown.length() == 0 ? "" : ", ")
+                .append(phase).append('=').append(millis).append("ms"));
+        return breakdown.toString();
+    }
+}
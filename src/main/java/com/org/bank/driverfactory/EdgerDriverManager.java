@@ -1,6 +1,8 @@
 package com.org.bank.driverfactory;
 
-import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
 
 /**
  * This class contains the method related to edge driver 
@@ -11,11 +13,17 @@ import org.openqa.selenium.edge.EdgeDriver;
 public final class EdgerDriverManager implements DriverManager{
 
 	/**
-	 * This method will return the instance of Edge Driver Class
+	 * This method will return an Edge session opened on the shared msedgedriver service
 	 */
 	@Override
-	public EdgeDriver getWebDriver() {
-		return new EdgeDriver();
+	public ChromiumDriver getWebDriver() {
+		EdgeOptions edgeOptions = new EdgeOptions();
+		edgeOptions.setPageLoadStrategy(DriverFactory.getPageLoadStrategy());
+		EdgeDriverService edgeDriverService = SharedDriverServices.getEdgeDriverService(edgeOptions);
+		ChromiumDriver edgeDriver = DriverStartupTimer.time(DriverStartupTimer.SESSION_HANDSHAKE,
+				() -> new SharedServiceChromiumDriver(edgeDriverService.getUrl(), edgeOptions, EdgeOptions.CAPABILITY));
+		PendingRequestTracker.install(edgeDriver);
+		return edgeDriver;
 	}
 
 }
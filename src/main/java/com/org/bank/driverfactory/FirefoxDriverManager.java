@@ -1,6 +1,8 @@
 package com.org.bank.driverfactory;
 
-import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.RemoteWebDriver;
 
 /**
  * This class contains the method related to Firefox driver class
@@ -11,11 +13,21 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 public final class FirefoxDriverManager implements DriverManager {
 
 	/**
-	 * This method will return the instance of FirefoxDriver class
+	 * This method will return a Firefox session opened on a reused geckodriver service.
+	 * geckodriver serves one session at a time, so the service is given back when the session quits.
 	 */
 	@Override
-	public FirefoxDriver getWebDriver() {
-		return new FirefoxDriver();
+	public RemoteWebDriver getWebDriver() {
+		FirefoxOptions firefoxOptions = new FirefoxOptions();
+		firefoxOptions.setPageLoadStrategy(DriverFactory.getPageLoadStrategy());
+		GeckoDriverService geckoDriverService = SharedDriverServices.leaseGeckoDriverService(firefoxOptions);
+		try {
+			return DriverStartupTimer.time(DriverStartupTimer.SESSION_HANDSHAKE,
+					() -> new SharedServiceFirefoxDriver(geckoDriverService, firefoxOptions));
+		} catch (RuntimeException e) {
+			SharedDriverServices.releaseGeckoDriverService(geckoDriverService);
+			throw e;
+		}
 	}
 
 }
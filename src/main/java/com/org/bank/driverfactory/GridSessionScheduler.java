@@ -0,0 +1,301 @@
+package com.org.bank.driverfactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * This class schedules new sessions against a Selenium Grid based on the capacity the grid reports.
+ * <p>
+ * The grid /status endpoint is polled to count the free slots per browser. Session requests wait in a local
+ * first-in first-out queue per browser and a request only goes to the grid once it is at the head of its queue
+ * and a free slot is available, so test threads are served in the order they asked and the grid never has to
+ * queue a request itself. A request that does not get a slot before its deadline fails with a TimeoutException.
+ * <p>
+ * Grids whose /status does not report nodes, such as cloud providers, are treated as having unlimited capacity.
+ * <p>
+ * The status is read over HTTP without holding the lock, by one waiting request at a time. A session the scheduler
+ * created keeps its slot leased locally until the grid reports the session, so a status read that does not show the
+ * new session yet does not hand its slot out again. A lease the grid has not reported after
+ * {@value #LEASE_STATUS_READS} status reads, e.g. because the session already quit, is dropped.
+ */
+@Slf4j
+public final class GridSessionScheduler {
+
+    private static final Map<String, GridSessionScheduler> SCHEDULERS = new ConcurrentHashMap<>();
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+    private static final int LEASE_STATUS_READS = 5;
+
+    private final URI statusUri;
+    private final Duration pollInterval;
+    private final HttpClient httpClient;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition capacityChanged = lock.newCondition();
+    private final Map<String, Deque<Object>> waitingRequests = new HashMap<>();
+    private final Map<String, Integer> reservedSlots = new HashMap<>();
+    private final Map<String, List<Lease>> leasedSlots = new HashMap<>();
+    private Map<String, Integer> freeSlots = new HashMap<>();
+    private boolean capacityReported;
+    private boolean statusReading;
+    private long statusReadAt;
+
+    private GridSessionScheduler(URL gridUrl, Duration pollInterval) {
+        String gridAddress = gridUrl.toString().replaceAll("/+$", "");
+        this.statusUri = URI.create(gridAddress + "/status");
+        this.pollInterval = pollInterval;
+        this.httpClient = RemoteHttpClientFactory.getRemoteHttpClientFactory().getHttpClient();
+        this.statusReadAt = System.nanoTime() - pollInterval.toNanos();
+    }
+
+    public static GridSessionScheduler newGridSessionScheduler(URL gridUrl, Duration pollInterval) {
+        return new GridSessionScheduler(gridUrl, pollInterval);
+    }
+
+    /**
+     * This method returns the scheduler shared by every session of the given grid.
+     *
+     * @param gridUrl The URL of the grid.
+     * @return The scheduler of the grid.
+     */
+    public static GridSessionScheduler getGridSessionScheduler(URL gridUrl) {
+        return SCHEDULERS.computeIfAbsent(gridUrl.toString(), key -> newGridSessionScheduler(gridUrl,
+                Duration.ofMillis(Long.parseLong(DriverFactory.getConfigurationValue("grid.status.poll.millis", "1000")))));
+    }
+
+    /**
+     * This method waits for a free slot of the given browser and then creates the session.
+     *
+     * @param browserName    The browser name of the session, as reported in the slot stereotypes of the grid.
+     * @param queueTimeout   How long the request may wait for a free slot.
+     * @param sessionFactory Creates the session once a slot is reserved.
+     * @param <T>            The type of the session.
+     * @return The created session.
+     * @throws TimeoutException If no slot became free before the deadline.
+     */
+    public <T> T schedule(String browserName, Duration queueTimeout, Supplier<T> sessionFactory) {
+        String browser = browserName.toLowerCase();
+        reserveSlot(browser, System.nanoTime() + queueTimeout.toNanos());
+        Lease lease = null;
+        try {
+            T session = sessionFactory.get();
+            lease = new Lease(session instanceof RemoteWebDriver && Objects.nonNull(((RemoteWebDriver) session).getSessionId())
+                    ? ((RemoteWebDriver) session).getSessionId().toString() : null);
+            return session;
+        } finally {
+            releaseSlot(browser, lease);
+        }
+    }
+
+    /**
+     * This method queues the request and blocks until it is at the head of the queue of its browser
+     * and the grid has a slot that is not reserved or leased by another request.
+     *
+     * @param browser  The browser of the request.
+     * @param deadline The System.nanoTime() by which a slot must be reserved.
+     */
+    private void reserveSlot(String browser, long deadline) {
+        Object request = new Object();
+        lock.lock();
+        try {
+            Deque<Object> queue = waitingRequests.computeIfAbsent(browser, key -> new ArrayDeque<>());
+            queue.addLast(request);
+            boolean waitLogged = false;
+            while (true) {
+                if (!statusReading && System.nanoTime() - statusReadAt >= pollInterval.toNanos()) {
+                    refreshStatus();
+                }
+                if (queue.peekFirst() == request && getAvailableSlots(browser) > 0) {
+                    queue.removeFirst();
+                    reservedSlots.merge(browser, 1, Integer::sum);
+                    capacityChanged.signalAll();
+                    return;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    queue.remove(request);
+                    capacityChanged.signalAll();
+                    throw new TimeoutException(String.format("No free %s slot on the grid %s", browser, statusUri));
+                }
+                if (!waitLogged) {
+                    log.info("Waiting for a free {} slot on the grid, {} requests queued", browser, queue.size());
+                    waitLogged = true;
+                }
+                capacityChanged.await(Math.min(remaining, pollInterval.toNanos()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            waitingRequests.get(browser).remove(request);
+            capacityChanged.signalAll();
+            throw new TimeoutException("Interrupted while waiting for a free " + browser + " slot", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * This method releases the reservation once the session request has been answered by the grid.
+     * A created session leases its slot until the grid reports it, and the status is read again on the next request.
+     *
+     * @param browser The browser of the request.
+     * @param lease   The lease of the created session, or null if the session was not created.
+     */
+    private void releaseSlot(String browser, Lease lease) {
+        lock.lock();
+        try {
+            reservedSlots.merge(browser, -1, Integer::sum);
+            if (Objects.nonNull(lease)) {
+                leasedSlots.computeIfAbsent(browser, key -> new ArrayList<>()).add(lease);
+            }
+            statusReadAt = System.nanoTime() - pollInterval.toNanos();
+            capacityChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getAvailableSlots(String browser) {
+        if (!capacityReported) {
+            return UNLIMITED;
+        }
+        return freeSlots.getOrDefault(browser, 0) - reservedSlots.getOrDefault(browser, 0)
+                - leasedSlots.getOrDefault(browser, List.of()).size();
+    }
+
+    /**
+     * This method reads the grid status and updates the free slots. It is called with the lock held and releases
+     * the lock while the status is read, so other requests and releases are not blocked by the HTTP call.
+     */
+    private void refreshStatus() {
+        statusReading = true;
+        statusReadAt = System.nanoTime();
+        Optional<JSONArray> nodes = Optional.empty();
+        boolean statusRead = false;
+        lock.unlock();
+        try {
+            nodes = readStatus();
+            statusRead = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Unable to read grid status from {} with error message : {}", statusUri, e.getMessage());
+        } finally {
+            lock.lock();
+            statusReading = false;
+            capacityChanged.signalAll();
+        }
+        if (statusRead) {
+            updateSlots(nodes);
+        }
+    }
+
+    /**
+     * This method reads the nodes from the grid /status endpoint.
+     *
+     * @return The nodes of the grid, or empty if the grid does not report nodes.
+     */
+    private Optional<JSONArray> readStatus() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(statusUri).timeout(Duration.ofSeconds(10)).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        JSONObject value = new JSONObject(response.body()).optJSONObject("value");
+        return Optional.ofNullable(Objects.isNull(value) ? null : value.optJSONArray("nodes"));
+    }
+
+    /**
+     * This method counts the free slots per browser from the nodes of the grid and drops the leases of the sessions
+     * the grid now reports. A node counts as free capacity when it is UP and has fewer sessions than maxSessions.
+     */
+    private void updateSlots(Optional<JSONArray> nodes) {
+        if (nodes.isEmpty()) {
+            capacityReported = false;
+            return;
+        }
+        Map<String, Integer> slots = new HashMap<>();
+        Set<String> sessionIds = new HashSet<>();
+        for (int i = 0; i < nodes.get().length(); i++) {
+            countFreeSlots(nodes.get().getJSONObject(i), slots, sessionIds);
+        }
+        freeSlots = slots;
+        capacityReported = true;
+        leasedSlots.values().forEach(leases -> leases.removeIf(lease -> lease.countStatusRead(sessionIds)));
+        log.debug("Free grid slots are : {}, leased slots are : {}", freeSlots, leasedSlots);
+    }
+
+    private void countFreeSlots(JSONObject node, Map<String, Integer> slots, Set<String> sessionIds) {
+        if (!"UP".equalsIgnoreCase(node.optString("availability", "UP"))) {
+            return;
+        }
+        JSONArray nodeSlots = node.optJSONArray("slots");
+        if (Objects.isNull(nodeSlots)) {
+            return;
+        }
+        int busySlots = 0;
+        Map<String, Integer> idleSlots = new HashMap<>();
+        for (int i = 0; i < nodeSlots.length(); i++) {
+            JSONObject slot = nodeSlots.getJSONObject(i);
+            if (slot.isNull("session")) {
+                String browser = slot.getJSONObject("stereotype").optString("browserName").toLowerCase();
+                idleSlots.merge(browser, 1, Integer::sum);
+            } else {
+                busySlots++;
+                JSONObject session = slot.optJSONObject("session");
+                if (Objects.nonNull(session)) {
+                    sessionIds.add(session.optString("sessionId"));
+                }
+            }
+        }
+        int sessionCapacity = node.optInt("maxSessions", nodeSlots.length()) - busySlots;
+        idleSlots.forEach((browser, count) -> slots.merge(browser, Math.max(0, Math.min(count, sessionCapacity)),
+                Integer::sum));
+    }
+
+    /**
+     * A slot taken by a session this scheduler created, until the grid reports the session.
+     */
+    private static final class Lease {
+
+        private final String sessionId;
+        private int statusReads;
+
+        private Lease(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        /**
+         * This method counts a status read and tells whether the lease can be dropped, because the grid reports the
+         * session or did not report it within {@value GridSessionScheduler#LEASE_STATUS_READS} reads.
+         */
+        private boolean countStatusRead(Set<String> sessionIds) {
+            return sessionIds.contains(sessionId) || ++statusReads >= LEASE_STATUS_READS;
+        }
+
+        @Override
+        public String toString() {
+            return Objects.isNull(sessionId) ? "unknown session" : sessionId;
+        }
+    }
+}
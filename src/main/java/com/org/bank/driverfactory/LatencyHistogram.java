@@ -0,0 +1,101 @@
+package com.org.bank.driverfactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A log-linear latency histogram in the style of HdrHistogram.
+ * <p>
+ * Latencies are recorded in microseconds. Every power of two is split into 16 linear buckets, so a percentile is
+ * accurate to about 6 %, recording is a single atomic increment and a histogram takes under 4 KB whatever the number
+ * of recorded values. Latencies above about 35 minutes are counted in the last bucket.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_SHIFT = 26;
+    private static final int BUCKETS = SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder totalMicros = new LongAdder();
+
+    /**
+     * This method records one latency.
+     *
+     * @param micros The latency in microseconds.
+     */
+    void record(long micros) {
+        buckets.incrementAndGet(getBucket(Math.max(0, micros)));
+        totalMicros.add(micros);
+    }
+
+    /**
+     * This method adds the values of another histogram to this one.
+     *
+     * @param histogram The histogram to add.
+     */
+    void add(LatencyHistogram histogram) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets.addAndGet(bucket, histogram.buckets.get(bucket));
+        }
+        totalMicros.add(histogram.totalMicros.sum());
+    }
+
+    /**
+     * This method summarises the histogram in milliseconds.
+     *
+     * @return The count, mean, p50, p90, p99 and max of the recorded latencies.
+     */
+    Map<String, Object> getSummary() {
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            count += buckets.get(bucket);
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("meanMillis", count == 0 ? 0 : toMillis(totalMicros.sum() / count));
+        summary.put("p50Millis", getPercentileMillis(count, 50));
+        summary.put("p90Millis", getPercentileMillis(count, 90));
+        summary.put("p99Millis", getPercentileMillis(count, 99));
+        summary.put("maxMillis", getPercentileMillis(count, 100));
+        return summary;
+    }
+
+    private double getPercentileMillis(long count, double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                return toMillis(getHighestValue(bucket));
+            }
+        }
+        return 0;
+    }
+
+    private static int getBucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = Math.min(MAX_SHIFT, 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS + 1);
+        int subBucket = (int) Math.min(SUB_BUCKETS - 1, micros >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + subBucket - HALF_SUB_BUCKETS;
+    }
+
+    private static long getHighestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (bucket - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static double toMillis(long micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+}
@@ -0,0 +1,139 @@
+package com.org.bank.driverfactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+/**
+ * This class implements the lean network mode for Chrome sessions.
+ * <p>
+ * Domain patterns are blocked with DevTools Network.setBlockedURLs and resource types such as images and fonts
+ * are failed through Fetch interception, so pages only load what the assertions need.
+ * The DevTools calls go through {@link DevToolsProtocol}. The interceptor counts the requests it blocked and the
+ * bytes the page still transferred, which the listener reports per test.
+ */
+@Slf4j
+public final class LeanNetworkInterceptor {
+
+    private static final Map<WebDriver, LeanNetworkInterceptor> INTERCEPTORS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final DevTools devTools;
+    private List<String> blockedUrlPatterns = List.of();
+    private List<String> blockedResourceTypes = List.of();
+    private final AtomicLong blockedRequests = new AtomicLong();
+    private final AtomicLong transferredRequests = new AtomicLong();
+    private final AtomicLong transferredBytes = new AtomicLong();
+
+    private LeanNetworkInterceptor(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * This method checks whether the lean network mode is enabled.
+     *
+     * @return true if lean.network.enabled is set to true.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(DriverFactory.getConfigurationValue("lean.network.enabled", "false"));
+    }
+
+    /**
+     * This method attaches the lean network mode to a Chrome session when it is enabled.
+     * Sessions without DevTools support are left untouched.
+     *
+     * @param driver The session to attach to.
+     */
+    public static void attachIfEnabled(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Optional<DevTools> devTools = DevToolsProtocol.getDevTools(driver);
+            if (devTools.isEmpty()) {
+                log.warn("Lean network mode needs DevTools, session {} does not support it", driver);
+                return;
+            }
+            LeanNetworkInterceptor interceptor = new LeanNetworkInterceptor(devTools.get());
+            interceptor.start(getConfiguredList("lean.network.blocked.url.patterns"),
+                    getConfiguredList("lean.network.blocked.resource.types"));
+            INTERCEPTORS.put(driver, interceptor);
+        } catch (Exception e) {
+            log.error("Unable to enable lean network mode with error message : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * This method returns the interceptor attached to a session.
+     *
+     * @param driver The session to look up.
+     * @return The interceptor of the session, or empty if lean network mode is not active for it.
+     */
+    public static Optional<LeanNetworkInterceptor> getLeanNetworkInterceptor(WebDriver driver) {
+        return Objects.isNull(driver) ? Optional.empty() : Optional.ofNullable(INTERCEPTORS.get(driver));
+    }
+
+    /**
+     * This method opens the DevTools session and installs the blocking rules and the counters.
+     *
+     * @param urlPatterns   The URL patterns to block, e.g. *doubleclick.net*.
+     * @param resourceTypes The resource types to block, e.g. Image, Font.
+     */
+    private void start(List<String> urlPatterns, List<String> resourceTypes) {
+        blockedUrlPatterns = urlPatterns;
+        blockedResourceTypes = resourceTypes;
+        DevToolsProtocol.addNetworkListeners(devTools, encodedDataLength -> {
+            transferredRequests.incrementAndGet();
+            transferredBytes.addAndGet(encodedDataLength);
+        }, blockedRequests::incrementAndGet);
+        if (!blockedResourceTypes.isEmpty()) {
+            DevToolsProtocol.addBlockedRequestListener(devTools, blockedRequests::incrementAndGet);
+        }
+        reapply();
+        log.info("Lean network mode is blocking url patterns : {} and resource types : {}", urlPatterns, resourceTypes);
+    }
+
+    /**
+     * This method sends the blocking rules to the current DevTools session.
+     * It is called again when the DevTools session moved to another tab, e.g. after the session was recycled.
+     */
+    public void reapply() {
+        DevToolsProtocol.blockRequests(devTools, blockedUrlPatterns, blockedResourceTypes);
+    }
+
+    /**
+     * This method resets the counters, it is called at the start of every test.
+     */
+    public void resetCounters() {
+        blockedRequests.set(0);
+        transferredRequests.set(0);
+        transferredBytes.set(0);
+    }
+
+    /**
+     * This method describes the network usage since the counters were last reset.
+     *
+     * @return A summary with the blocked requests and the transferred requests and bytes.
+     */
+    public String getSummary() {
+        return String.format("Lean network blocked %d requests, %d requests transferred %d bytes",
+                blockedRequests.get(), transferredRequests.get(), transferredBytes.get());
+    }
+
+    private static List<String> getConfiguredList(String key) {
+        return Arrays.stream(DriverFactory.getConfigurationValue(key, "").split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,100 @@
+package com.org.bank.driverfactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.Objects;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.grid.commands.Standalone;
+import org.openqa.selenium.grid.config.TomlConfig;
+import org.openqa.selenium.grid.server.Server;
+
+/**
+ * This class runs a standalone Selenium Grid inside the test JVM for browser=localgrid.
+ * <p>
+ * The grid offers localgrid.max.sessions Chrome slots on this machine, so the parallel suite gets the queueing and
+ * slot limits of a real grid without Docker. Sessions reach it through {@link RemoteDriverManager} and
+ * {@link GridSessionScheduler} like any other grid. The grid starts with the first session and is stopped by the
+ * suite listener, or by a shutdown hook if the suite did not finish.
+ */
+@Slf4j
+public final class LocalGrid {
+
+    private static final String CONFIG_TEMPLATE = "[server]\n"
+            + "host = \"localhost\"\n"
+            + "port = %d\n"
+            + "[node]\n"
+            + "detect-drivers = false\n"
+            + "max-sessions = %d\n"
+            + "override-max-sessions = true\n"
+            + "session-timeout = %d\n"
+            + "[[node.driver-configuration]]\n"
+            + "display-name = \"Chrome\"\n"
+            + "stereotype = '{\"browserName\": \"chrome\"}'\n"
+            + "max-sessions = %d\n";
+    private static Server<?> server;
+    private static boolean shutdownHookAdded;
+
+    private LocalGrid() {
+    }
+
+    /**
+     * This method returns the URL of the local grid, starting the grid on first use.
+     *
+     * @return The URL sessions are created against.
+     */
+    public static synchronized URL getUrl() {
+        if (Objects.isNull(server)) {
+            start();
+        }
+        return server.getUrl();
+    }
+
+    /**
+     * This method checks whether the local grid is running.
+     *
+     * @return true if the grid has been started and not stopped yet.
+     */
+    public static synchronized boolean isRunning() {
+        return Objects.nonNull(server);
+    }
+
+    /**
+     * This method stops the local grid if it is running. Sessions still open on the grid are ended with it.
+     */
+    public static synchronized void stop() {
+        if (Objects.nonNull(server)) {
+            log.info("Stopping the local grid at {}", server.getUrl());
+            server.stop();
+            server = null;
+        }
+    }
+
+    private static void start() {
+        int maxSessions = Integer.parseInt(DriverFactory.getConfigurationValue("localgrid.max.sessions",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int port = Integer.parseInt(DriverFactory.getConfigurationValue("localgrid.port", "0"));
+        long sessionTimeout = Long.parseLong(DriverFactory.getConfigurationValue("localgrid.session.timeout", "300"));
+        String config = String.format(CONFIG_TEMPLATE, port == 0 ? getFreePort() : port, maxSessions, sessionTimeout,
+                maxSessions);
+        long start = System.currentTimeMillis();
+        server = new Standalone().asServer(new TomlConfig(new StringReader(config))).start();
+        if (!shutdownHookAdded) {
+            Runtime.getRuntime().addShutdownHook(new Thread(LocalGrid::stop, "local-grid-shutdown"));
+            shutdownHookAdded = true;
+        }
+        log.info("Started the local grid at {} with {} Chrome slots in {} ms", server.getUrl(), maxSessions,
+                System.currentTimeMillis() - start);
+    }
+
+    private static int getFreePort() {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
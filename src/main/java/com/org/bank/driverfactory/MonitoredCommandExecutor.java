@@ -0,0 +1,96 @@
+package com.org.bank.driverfactory;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.org.bank.constants.WebDriverContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * A CommandExecutor that counts the commands of a session and tracks their latency.
+ * The latency is an exponentially weighted moving average, so it follows the recent commands of the session.
+ * Every latency is also recorded in the {@link CommandLatencyHistograms} of the run.
+ * When the session quits it is removed from the {@link WebDriverContext}, however the quit was triggered.
+ */
+public final class MonitoredCommandExecutor implements CommandExecutor {
+
+    private static final double LATENCY_WEIGHT = 0.1;
+
+    private final CommandExecutor delegate;
+    private long commandCount;
+    private double averageLatencyMillis;
+
+    MonitoredCommandExecutor(CommandExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * This method returns the monitored executor of a session.
+     *
+     * @param driver The session to look up.
+     * @return The executor of the session, or empty if the commands of the session are not monitored.
+     */
+    public static Optional<MonitoredCommandExecutor> getMonitoredCommandExecutor(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver
+                && ((RemoteWebDriver) driver).getCommandExecutor() instanceof MonitoredCommandExecutor) {
+            return Optional.of((MonitoredCommandExecutor) ((RemoteWebDriver) driver).getCommandExecutor());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Response execute(Command command) throws IOException {
+        if (DriverCommand.QUIT.equals(command.getName()) && Objects.nonNull(command.getSessionId())) {
+            WebDriverContext.removeWebDriverContext(command.getSessionId());
+        }
+        long start = System.nanoTime();
+        try {
+            return delegate.execute(command);
+        } finally {
+            long latencyNanos = System.nanoTime() - start;
+            record(latencyNanos / 1_000_000.0);
+            CommandLatencyHistograms.record(command.getName(), latencyNanos);
+        }
+    }
+
+    private synchronized void record(double latencyMillis) {
+        averageLatencyMillis = commandCount == 0 ? latencyMillis
+                : averageLatencyMillis + LATENCY_WEIGHT * (latencyMillis - averageLatencyMillis);
+        commandCount++;
+    }
+
+    /**
+     * @return The number of commands since the last reset.
+     */
+    public synchronized long getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * @return The moving average latency of the recent commands in milliseconds.
+     */
+    public synchronized double getAverageLatencyMillis() {
+        return averageLatencyMillis;
+    }
+
+    /**
+     * @return The command count and the average latency, for logging.
+     */
+    public synchronized String getSummary() {
+        return String.format("%d commands with %.0f ms average latency", commandCount, averageLatencyMillis);
+    }
+
+    /**
+     * This method starts counting from zero again, it is called after the session has been recycled.
+     */
+    public synchronized void reset() {
+        commandCount = 0;
+        averageLatencyMillis = 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.org.bank.driverfactory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * This class counts the fetch and XHR requests of a page that are still pending, for the readiness probe of
+ * {@link com.org.bank.utils.SeleniumUtils#waitForPageReady(org.openqa.selenium.WebElement...)}.
+ * <p>
+ * On Chrome and Edge sessions the counter is installed with DevTools Page.addScriptToEvaluateOnNewDocument, so it
+ * runs before any script of every page and also counts the requests a page starts while it loads. Other sessions
+ * install the counter with the first probe after the navigation returned, so on those sessions the requests started
+ * during the load are not counted and the probe is in practice a DOM ready check.
+ */
+@Slf4j
+public final class PendingRequestTracker {
+
+    private static final String BINDING_NAME = "__seleniumPendingRequestTracker";
+
+    /**
+     * The script that wraps fetch and XMLHttpRequest.send and counts the pending requests in
+     * window.__seleniumPendingRequests. It does nothing when the counter is already installed on the page.
+     */
+    public static final String INSTALL_SCRIPT = "(function (w) {"
+            + "if (typeof w.__seleniumPendingRequests === 'number') { return; }"
+            + "w.__seleniumPendingRequests = 0;"
+            + "var done = function () { w.__seleniumPendingRequests = Math.max(0, w.__seleniumPendingRequests - 1); };"
+            + "if (w.fetch) {"
+            + "  var originalFetch = w.fetch;"
+            + "  w.fetch = function () {"
+            + "    w.__seleniumPendingRequests++;"
+            + "    return originalFetch.apply(this, arguments).then("
+            + "      function (response) { done(); return response; }, function (error) { done(); throw error; });"
+            + "  };"
+            + "}"
+            + "if (w.XMLHttpRequest) {"
+            + "  var originalSend = w.XMLHttpRequest.prototype.send;"
+            + "  w.XMLHttpRequest.prototype.send = function () {"
+            + "    w.__seleniumPendingRequests++;"
+            + "    this.addEventListener('loadend', done);"
+            + "    return originalSend.apply(this, arguments);"
+            + "  };"
+            + "}"
+            + "})(window);";
+
+    private PendingRequestTracker() {
+    }
+
+    /**
+     * This method installs the counter on every new document of the current window of a DevTools session.
+     * Sessions without DevTools support are left to the fallback of the readiness probe.
+     * It is called when a session is created and again when the session moved to another tab.
+     *
+     * @param driver The session to install the counter on.
+     */
+    public static void install(WebDriver driver) {
+        try {
+            DevToolsProtocol.getDevTools(driver)
+                    .ifPresent(devTools -> devTools.getDomains().javascript().pin(BINDING_NAME, INSTALL_SCRIPT));
+        } catch (Exception e) {
+            log.warn("Unable to install the pending request tracker, the readiness probe falls back to DOM ready "
+                    + "with error message : {}", e.getMessage());
+        }
+    }
+}
@@ -4,19 +4,33 @@ import com.org.bank.constants.Constants;
 import com.org.bank.exceptions.KeyNotValidException;
 import com.org.bank.exceptions.ValueNotFoundException;
 import com.org.bank.utils.FileReaderUtil;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.Augmenter;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
 
 public class RemoteDriverManager implements DriverManager {
 
     private final FileReaderUtil readerUtil;
+    private final boolean localGrid;
 
     public RemoteDriverManager() {
+        this(false);
+    }
+
+    /**
+     * @param localGrid true to run the session headless on the {@link LocalGrid} instead of the configured remote.driver.url.
+     */
+    public RemoteDriverManager(boolean localGrid) {
         readerUtil = FileReaderUtil.newFileReaderUtil(Constants.CONFIG_FILE_PATH);
+        this.localGrid = localGrid;
     }
 
     @Override
@@ -31,16 +45,50 @@ public class RemoteDriverManager implements DriverManager {
         chromeOptions.addArguments("--disable-dev-shm-usage");
         chromeOptions.addArguments("--ignore-ssl-errors=yes");
         chromeOptions.addArguments("--ignore-certificate-errors");
+        chromeOptions.setPageLoadStrategy(DriverFactory.getPageLoadStrategy());
         String remoteDriverUrl;
-        try {
-            remoteDriverUrl = readerUtil.getPropertyValue("remote.driver.url");
-        } catch (KeyNotValidException | ValueNotFoundException e) {
-            throw new RuntimeException(e);
+        if (localGrid) {
+            chromeOptions.addArguments("--headless=new");
+            remoteDriverUrl = LocalGrid.getUrl().toString();
+        } else {
+            try {
+                remoteDriverUrl = readerUtil.getPropertyValue("remote.driver.url");
+            } catch (KeyNotValidException | ValueNotFoundException e) {
+                throw new RuntimeException(e);
+            }
         }
+        RemoteWebDriver remoteWebDriver;
         try {
-            return new RemoteWebDriver(new URL(remoteDriverUrl), chromeOptions);
+            URL remoteUrl = new URL(remoteDriverUrl);
+            Duration queueTimeout = Duration.ofSeconds(
+                    Long.parseLong(DriverFactory.getConfigurationValue("grid.queue.timeout", "300")));
+            // Wait locally for a free slot so the request never sits in the grid queue
+            remoteWebDriver = GridSessionScheduler.getGridSessionScheduler(remoteUrl).schedule(
+                    chromeOptions.getBrowserName(), queueTimeout,
+                    () -> DriverStartupTimer.time(DriverStartupTimer.SESSION_HANDSHAKE,
+                            () -> newRemoteWebDriver(remoteUrl, chromeOptions)));
         } catch (MalformedURLException e) {
             throw new RuntimeException(e);
         }
+        // The augmented driver exposes DevTools of the remote Chrome session, for the request tracker and lean mode
+        remoteWebDriver = (RemoteWebDriver) new Augmenter().augment(remoteWebDriver);
+        PendingRequestTracker.install(remoteWebDriver);
+        LeanNetworkInterceptor.attachIfEnabled(remoteWebDriver);
+        return remoteWebDriver;
+    }
+
+    /**
+     * This method creates the remote session over the shared HTTP client of the run.
+     * The commands of the session go through a {@link MonitoredCommandExecutor}, which counts them and tracks their latency.
+     *
+     * @param remoteUrl    The URL of the hub.
+     * @param capabilities The capabilities of the session.
+     * @return The remote session.
+     */
+    private RemoteWebDriver newRemoteWebDriver(URL remoteUrl, Capabilities capabilities) {
+        RemoteHttpClientFactory remoteHttpClientFactory = RemoteHttpClientFactory.getRemoteHttpClientFactory();
+        HttpCommandExecutor httpCommandExecutor = new HttpCommandExecutor(Collections.emptyMap(),
+                remoteHttpClientFactory.getClientConfig(remoteUrl), remoteHttpClientFactory);
+        return new RemoteWebDriver(new MonitoredCommandExecutor(httpCommandExecutor), capabilities);
     }
 }
@@ -0,0 +1,249 @@
+package com.org.bank.driverfactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.Credentials;
+import org.openqa.selenium.UsernameAndPassword;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+/**
+ * This class sends the command traffic of all remote sessions over one process-wide JDK HTTP client.
+ * <p>
+ * Every remote session shares the keep-alive connection pool of the client, so parallel sessions reuse open
+ * connections to the hub instead of opening their own. The connect and read timeouts come from the configuration
+ * and HTTP/2 can be switched on with remote.http.version. Sessions whose client configuration has an HTTP proxy share
+ * one client per proxy, SOCKS proxies are not supported by the JDK client. WebSocket connections go through one
+ * default Selenium client per session, which is closed with the session.
+ * <p>
+ * The JDK reads the idle time of the pooled connections from the jdk.httpclient.keepalive.timeout system property
+ * when its first client is built, so it is set as a JVM option of the test run, see httpclient.keepalive.seconds in
+ * the pom.
+ * <p>
+ * The grid /status polling of {@link GridSessionScheduler} uses the same client.
+ */
+@Slf4j
+public final class RemoteHttpClientFactory implements HttpClient.Factory {
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade");
+    private static RemoteHttpClientFactory remoteHttpClientFactory;
+
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final java.net.http.HttpClient.Version version;
+    private final java.net.http.HttpClient httpClient;
+    private final Map<Proxy, java.net.http.HttpClient> proxyHttpClients = new ConcurrentHashMap<>();
+
+    private RemoteHttpClientFactory() {
+        connectTimeout = Duration.ofSeconds(
+                Long.parseLong(DriverFactory.getConfigurationValue("remote.http.connect.timeout", "10")));
+        readTimeout = Duration.ofSeconds(
+                Long.parseLong(DriverFactory.getConfigurationValue("remote.http.read.timeout", "180")));
+        version = java.net.http.HttpClient.Version.valueOf(
+                DriverFactory.getConfigurationValue("remote.http.version", "HTTP_1_1").toUpperCase());
+        httpClient = newHttpClient().build();
+        log.info("Remote HTTP client uses {} with connect timeout {} s and read timeout {} s", version,
+                connectTimeout.getSeconds(), readTimeout.getSeconds());
+    }
+
+    /**
+     * This method returns the factory shared by every remote session of the run.
+     *
+     * @return The process-wide {@link RemoteHttpClientFactory}.
+     */
+    public static synchronized RemoteHttpClientFactory getRemoteHttpClientFactory() {
+        if (Objects.isNull(remoteHttpClientFactory)) {
+            remoteHttpClientFactory = new RemoteHttpClientFactory();
+        }
+        return remoteHttpClientFactory;
+    }
+
+    /**
+     * This method returns the shared JDK HTTP client, for callers that talk to the hub directly.
+     *
+     * @return The shared HTTP client.
+     */
+    public java.net.http.HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * This method returns the client configuration of a remote session with the configured timeouts.
+     *
+     * @param remoteUrl The URL of the hub.
+     * @return The client configuration for the hub.
+     */
+    public ClientConfig getClientConfig(URL remoteUrl) {
+        return ClientConfig.defaultConfig()
+                .baseUrl(remoteUrl)
+                .connectionTimeout(connectTimeout)
+                .readTimeout(readTimeout);
+    }
+
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+        return new SharedHttpClient(config, getHttpClient(config.proxy()));
+    }
+
+    private java.net.http.HttpClient.Builder newHttpClient() {
+        return java.net.http.HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(connectTimeout)
+                .followRedirects(java.net.http.HttpClient.Redirect.NEVER);
+    }
+
+    /**
+     * This method returns the JDK client that sends requests through a proxy, the shared client when there is none.
+     *
+     * @param proxy The proxy of the client configuration, or null.
+     * @return The JDK client for the proxy.
+     */
+    private java.net.http.HttpClient getHttpClient(Proxy proxy) {
+        if (Objects.isNull(proxy) || proxy.type() == Proxy.Type.DIRECT) {
+            return httpClient;
+        }
+        if (proxy.type() != Proxy.Type.HTTP || !(proxy.address() instanceof InetSocketAddress)) {
+            throw new IllegalArgumentException("The remote HTTP client supports HTTP proxies only, not " + proxy);
+        }
+        return proxyHttpClients.computeIfAbsent(proxy, httpProxy -> newHttpClient()
+                .proxy(ProxySelector.of((InetSocketAddress) httpProxy.address()))
+                .build());
+    }
+
+    /**
+     * A Selenium HTTP client of one session that sends its requests over the shared JDK client.
+     */
+    private final class SharedHttpClient implements HttpClient {
+
+        private final ClientConfig config;
+        private final java.net.http.HttpClient jdkHttpClient;
+        private final HttpHandler handler;
+        private HttpClient webSocketClient;
+
+        private SharedHttpClient(ClientConfig config, java.net.http.HttpClient jdkHttpClient) {
+            this.config = config;
+            this.jdkHttpClient = jdkHttpClient;
+            this.handler = config.filter().andFinally(this::send);
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return handler.execute(request);
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return getWebSocketClient().openSocket(request, listener);
+        }
+
+        /**
+         * This method closes the WebSocket client of the session, it is called when the session quits.
+         * The shared JDK client stays open for the other sessions.
+         */
+        @Override
+        public synchronized void close() {
+            if (Objects.nonNull(webSocketClient)) {
+                webSocketClient.close();
+                webSocketClient = null;
+            }
+        }
+
+        private synchronized HttpClient getWebSocketClient() {
+            if (Objects.isNull(webSocketClient)) {
+                webSocketClient = HttpClient.Factory.createDefault().createClient(config);
+            }
+            return webSocketClient;
+        }
+
+        private HttpResponse send(HttpRequest request) {
+            URI baseUri = config.baseUri();
+            java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(getRequestUri(baseUri, request))
+                    .timeout(config.readTimeout());
+            request.forEachHeader((name, value) -> {
+                if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                    builder.header(name, value);
+                }
+            });
+            getAuthorization(baseUri).ifPresent(authorization -> builder.setHeader("Authorization", authorization));
+            builder.method(request.getMethod().toString(), request.getMethod() == HttpMethod.GET
+                    ? BodyPublishers.noBody() : BodyPublishers.ofByteArray(Contents.bytes(request.getContent())));
+            try {
+                java.net.http.HttpResponse<byte[]> jdkResponse = jdkHttpClient.send(builder.build(), BodyHandlers.ofByteArray());
+                HttpResponse response = new HttpResponse().setStatus(jdkResponse.statusCode());
+                jdkResponse.headers().map().forEach((name, values) -> {
+                    if (!name.startsWith(":")) {
+                        values.forEach(value -> response.addHeader(name, value));
+                    }
+                });
+                response.setContent(Contents.bytes(jdkResponse.body()));
+                return response;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new IOException("Interrupted while sending " + request, e));
+            }
+        }
+
+        /**
+         * This method resolves the request path against the hub URL, without the user info of the hub URL.
+         */
+        private URI getRequestUri(URI baseUri, HttpRequest request) {
+            StringJoiner query = new StringJoiner("&");
+            for (String name : request.getQueryParameterNames()) {
+                for (String value : request.getQueryParameters(name)) {
+                    query.add(URLEncoder.encode(name, StandardCharsets.UTF_8) + "="
+                            + URLEncoder.encode(value, StandardCharsets.UTF_8));
+                }
+            }
+            try {
+                URI hostUri = new URI(baseUri.getScheme(), null, baseUri.getHost(), baseUri.getPort(), null, null, null);
+                String path = baseUri.getRawPath().replaceAll("/+$", "") + request.getUri();
+                return URI.create(hostUri + path + (query.length() == 0 ? "" : "?" + query));
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        /**
+         * This method builds the basic authorization header from the credentials or the user info of the hub URL.
+         */
+        private Optional<String> getAuthorization(URI baseUri) {
+            Credentials credentials = config.credentials();
+            String userInfo = credentials instanceof UsernameAndPassword
+                    ? ((UsernameAndPassword) credentials).username() + ":" + ((UsernameAndPassword) credentials).password()
+                    : baseUri.getUserInfo();
+            if (Objects.isNull(userInfo) || userInfo.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of("Basic " + Base64.getEncoder().encodeToString(userInfo.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
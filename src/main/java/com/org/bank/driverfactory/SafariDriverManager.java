@@ -1,6 +1,7 @@
 package com.org.bank.driverfactory;
 
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariOptions;
 
 /**
  * This class contains the methods related to safari driver
@@ -16,7 +17,9 @@ public final class SafariDriverManager implements DriverManager {
 	 */
 	@Override
 	public SafariDriver getWebDriver() {
-		return new SafariDriver();
+		SafariOptions safariOptions = new SafariOptions();
+		safariOptions.setPageLoadStrategy(DriverFactory.getPageLoadStrategy());
+		return DriverStartupTimer.time(DriverStartupTimer.SESSION_HANDSHAKE, () -> new SafariDriver(safariOptions));
 	}
 
 }
@@ -0,0 +1,121 @@
+package com.org.bank.driverfactory;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * This class watches the health of Chrome, Edge and remote sessions and recycles a session that has degraded.
+ * <p>
+ * The command count and latency come from the {@link MonitoredCommandExecutor} of the session and the renderer
+ * memory from the DevTools Performance metrics. When a limit is crossed, the page is moved to a fresh tab and the
+ * old tab is closed, which gives the page a new renderer process. The session and its cookies stay the same, and
+ * the current URL and session storage are replayed in the new tab, so the login state survives and tests holding
+ * the WebDriver do not notice.
+ * <p>
+ * The watchdog is called between tests by the listener.
+ */
+@Slf4j
+public final class SessionHealthWatchdog {
+
+    private static final String READ_SESSION_STORAGE_SCRIPT = "return JSON.stringify(Object.entries(window.sessionStorage));";
+    private static final String WRITE_SESSION_STORAGE_SCRIPT = "JSON.parse(arguments[0]).forEach(function (entry) {"
+            + " window.sessionStorage.setItem(entry[0], entry[1]); });";
+
+    private SessionHealthWatchdog() {
+    }
+
+    /**
+     * This method checks whether the watchdog is enabled.
+     *
+     * @return true if watchdog.enabled is set to true.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(DriverFactory.getConfigurationValue("watchdog.enabled", "false"));
+    }
+
+    /**
+     * This method recycles the session when it crossed one of the configured limits.
+     * Sessions that are not monitored, such as Firefox or Safari sessions, are left untouched.
+     *
+     * @param driver The session to check.
+     */
+    public static void recycleIfUnhealthy(WebDriver driver) {
+        Optional<MonitoredCommandExecutor> monitoredCommandExecutor = MonitoredCommandExecutor.getMonitoredCommandExecutor(driver);
+        if (!isEnabled() || monitoredCommandExecutor.isEmpty()) {
+            return;
+        }
+        MonitoredCommandExecutor commandExecutor = monitoredCommandExecutor.get();
+        long maxCommands = Long.parseLong(DriverFactory.getConfigurationValue("watchdog.max.commands", "500"));
+        long maxLatencyMillis = Long.parseLong(DriverFactory.getConfigurationValue("watchdog.max.command.latency.millis", "2000"));
+        long maxHeapMb = Long.parseLong(DriverFactory.getConfigurationValue("watchdog.max.heap.mb", "512"));
+        String reason = null;
+        if (commandExecutor.getCommandCount() >= maxCommands) {
+            reason = String.format("%d commands", commandExecutor.getCommandCount());
+        } else if (commandExecutor.getAverageLatencyMillis() >= maxLatencyMillis) {
+            reason = String.format("%.0f ms average command latency", commandExecutor.getAverageLatencyMillis());
+        } else {
+            Optional<Long> heapMb = getHeapUsedMb(driver);
+            if (heapMb.isPresent() && heapMb.get() >= maxHeapMb) {
+                reason = String.format("%d MB renderer heap", heapMb.get());
+            }
+        }
+        if (Objects.nonNull(reason)) {
+            log.info("Recycling session {} after {}", ((RemoteWebDriver) driver).getSessionId(), reason);
+            recycle(driver);
+            commandExecutor.reset();
+        }
+    }
+
+    /**
+     * This method reads the used JavaScript heap of the current tab from the DevTools Performance metrics.
+     *
+     * @param driver The session to sample.
+     * @return The used heap in megabytes, or empty if the session has no DevTools.
+     */
+    private static Optional<Long> getHeapUsedMb(WebDriver driver) {
+        try {
+            return DevToolsProtocol.getDevTools(driver)
+                    .flatMap(DevToolsProtocol::getJsHeapUsedBytes)
+                    .map(heapBytes -> heapBytes / (1024 * 1024));
+        } catch (Exception e) {
+            log.warn("Unable to read the performance metrics with error message : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * This method moves the page to a fresh tab and closes the old one, replaying the URL and session storage.
+     *
+     * @param driver The session to recycle.
+     */
+    private static void recycle(WebDriver driver) {
+        try {
+            String currentUrl = driver.getCurrentUrl();
+            String sessionStorage = String.valueOf(((JavascriptExecutor) driver).executeScript(READ_SESSION_STORAGE_SCRIPT));
+            String oldWindowHandle = driver.getWindowHandle();
+            String newWindowHandle = driver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+            driver.switchTo().window(oldWindowHandle).close();
+            driver.switchTo().window(newWindowHandle);
+            if (driver instanceof HasDevTools) {
+                PendingRequestTracker.install(driver);
+                LeanNetworkInterceptor.getLeanNetworkInterceptor(driver).ifPresent(LeanNetworkInterceptor::reapply);
+            }
+            if (currentUrl.startsWith("http")) {
+                driver.get(currentUrl);
+                if (!"[]".equals(sessionStorage)) {
+                    ((JavascriptExecutor) driver).executeScript(WRITE_SESSION_STORAGE_SCRIPT, sessionStorage);
+                    driver.navigate().refresh();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Unable to recycle the session with error message : {}", e.getMessage());
+        }
+    }
+}
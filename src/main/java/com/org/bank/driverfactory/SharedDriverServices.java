@@ -0,0 +1,140 @@
+package com.org.bank.driverfactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * This class keeps the driver service processes (chromedriver, msedgedriver and geckodriver) alive for the whole JVM.
+ * <p>
+ * chromedriver and msedgedriver serve any number of sessions, so one process of each is started on first use and
+ * shared by every session. geckodriver serves one session at a time, so its processes are kept in an idle queue and
+ * reused by the next Firefox session instead of being spawned again.
+ * Every started process is stopped from a JVM shutdown hook.
+ */
+@Slf4j
+public final class SharedDriverServices {
+
+    private static final List<DriverService> STARTED_SERVICES = new CopyOnWriteArrayList<>();
+    private static final BlockingQueue<GeckoDriverService> IDLE_GECKO_DRIVER_SERVICES = new LinkedBlockingQueue<>();
+    private static ChromeDriverService chromeDriverService;
+    private static EdgeDriverService edgeDriverService;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SharedDriverServices::stopAll, "driver-service-shutdown"));
+    }
+
+    private SharedDriverServices() {
+    }
+
+    /**
+     * This method returns the shared chromedriver service, starting it on first use or after it died.
+     *
+     * @param chromeOptions The options of the session, used to resolve the matching chromedriver binary.
+     * @return The running chromedriver service.
+     */
+    public static synchronized ChromeDriverService getChromeDriverService(ChromeOptions chromeOptions) {
+        if (Objects.isNull(chromeDriverService) || !chromeDriverService.isRunning()) {
+            chromeDriverService = startService(new ChromeDriverService.Builder().usingAnyFreePort().build(),
+                    chromeOptions);
+        }
+        return chromeDriverService;
+    }
+
+    /**
+     * This method returns the shared msedgedriver service, starting it on first use or after it died.
+     *
+     * @param edgeOptions The options of the session, used to resolve the matching msedgedriver binary.
+     * @return The running msedgedriver service.
+     */
+    public static synchronized EdgeDriverService getEdgeDriverService(EdgeOptions edgeOptions) {
+        if (Objects.isNull(edgeDriverService) || !edgeDriverService.isRunning()) {
+            edgeDriverService = startService(new EdgeDriverService.Builder().usingAnyFreePort().build(), edgeOptions);
+        }
+        return edgeDriverService;
+    }
+
+    /**
+     * This method hands out an idle geckodriver service, starting a new one when none is idle.
+     * The service must be given back with {@link #releaseGeckoDriverService(GeckoDriverService)} once the session quits.
+     *
+     * @param firefoxOptions The options of the session, used to resolve the matching geckodriver binary.
+     * @return A running geckodriver service that no other session is using.
+     */
+    public static GeckoDriverService leaseGeckoDriverService(FirefoxOptions firefoxOptions) {
+        GeckoDriverService geckoDriverService;
+        while ((geckoDriverService = IDLE_GECKO_DRIVER_SERVICES.poll()) != null) {
+            if (geckoDriverService.isRunning()) {
+                return geckoDriverService;
+            }
+            STARTED_SERVICES.remove(geckoDriverService);
+        }
+        return startService(new GeckoDriverService.Builder().usingAnyFreePort().build(), firefoxOptions);
+    }
+
+    /**
+     * This method gives a geckodriver service back after its session has quit, so the next session can reuse it.
+     *
+     * @param geckoDriverService The service to give back.
+     */
+    public static void releaseGeckoDriverService(GeckoDriverService geckoDriverService) {
+        if (geckoDriverService.isRunning()) {
+            IDLE_GECKO_DRIVER_SERVICES.offer(geckoDriverService);
+        }
+    }
+
+    /**
+     * This method stops every driver service process started by this class.
+     */
+    public static void stopAll() {
+        STARTED_SERVICES.forEach(service -> {
+            try {
+                service.stop();
+            } catch (Exception e) {
+                log.warn("Error occurred while stopping driver service with error message : {}", e.getMessage());
+            }
+        });
+        log.info("Stopped {} driver service processes", STARTED_SERVICES.size());
+        STARTED_SERVICES.clear();
+        IDLE_GECKO_DRIVER_SERVICES.clear();
+    }
+
+    /**
+     * This method resolves the driver binary for the given options, through the {@link DriverBinaryCache},
+     * and starts the service. Both phases are recorded by the {@link DriverStartupTimer}.
+     *
+     * @param service      The service to start.
+     * @param capabilities The options of the session the service is started for.
+     * @param <T>          The type of the driver service.
+     * @return The started service.
+     */
+    private static <T extends DriverService> T startService(T service, Capabilities capabilities) {
+        service.setExecutable(DriverStartupTimer.time(DriverStartupTimer.BINARY_RESOLVE,
+                () -> DriverBinaryCache.getDriverPath(service, capabilities)));
+        DriverStartupTimer.time(DriverStartupTimer.SERVICE_START, () -> {
+            try {
+                service.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return service;
+        });
+        STARTED_SERVICES.add(service);
+        log.info("Started shared driver service {} at {}", service.getClass().getSimpleName(), service.getUrl());
+        return service;
+    }
+}
@@ -0,0 +1,81 @@
+package com.org.bank.driverfactory;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.common.collect.ImmutableMap;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.chromium.AddHasCasting;
+import org.openqa.selenium.chromium.AddHasCdp;
+import org.openqa.selenium.chromium.AddHasLaunchApp;
+import org.openqa.selenium.chromium.AddHasNetworkConditions;
+import org.openqa.selenium.chromium.AddHasPermissions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+
+/**
+ * A Chrome or Edge session that talks to a driver service owned by {@link SharedDriverServices}.
+ * <p>
+ * Unlike ChromeDriver and EdgeDriver, quitting this session only ends the browser session and leaves the driver
+ * service process running for the next session. The ChromiumDriverCommandExecutor of ChromeDriver and EdgeDriver
+ * waits for its service process to exit and stops it on quit, so the commands go through an HttpCommandExecutor that
+ * knows the same Chromium and browser commands instead. Network conditions, casting, permissions, launching apps and
+ * executeCdpCommand work as for ChromeDriver and EdgeDriver, and DevTools stays available.
+ * Commands go through a {@link MonitoredCommandExecutor}, so the {@link SessionHealthWatchdog} can watch the session.
+ */
+final class SharedServiceChromiumDriver extends ChromiumDriver {
+
+    private final Runnable afterQuit;
+
+    SharedServiceChromiumDriver(URL serviceUrl, Capabilities capabilities, String capabilityKey) {
+        this(serviceUrl, capabilities, capabilityKey, null);
+    }
+
+    /**
+     * @param afterQuit Cleanup that runs once the browser has quit, e.g. deleting the profile of the session.
+     */
+    SharedServiceChromiumDriver(URL serviceUrl, Capabilities capabilities, String capabilityKey, Runnable afterQuit) {
+        super(new MonitoredCommandExecutor(new HttpCommandExecutor(getCommands(capabilityKey), serviceUrl)), capabilities,
+                capabilityKey);
+        casting = getAddHasCasting(capabilityKey).getImplementation(getCapabilities(), getExecuteMethod());
+        cdp = getAddHasCdp(capabilityKey).getImplementation(getCapabilities(), getExecuteMethod());
+        this.afterQuit = afterQuit;
+    }
+
+    @Override
+    public void quit() {
+        try {
+            super.quit();
+        } finally {
+            if (Objects.nonNull(afterQuit)) {
+                afterQuit.run();
+            }
+        }
+    }
+
+    /**
+     * This method returns the commands ChromeDriver or EdgeDriver add to the W3C commands.
+     */
+    private static Map<String, CommandInfo> getCommands(String capabilityKey) {
+        return ImmutableMap.<String, CommandInfo>builder()
+                .putAll(getAddHasCasting(capabilityKey).getAdditionalCommands())
+                .putAll(getAddHasCdp(capabilityKey).getAdditionalCommands())
+                .putAll(new AddHasNetworkConditions().getAdditionalCommands())
+                .putAll(new AddHasPermissions().getAdditionalCommands())
+                .putAll(new AddHasLaunchApp().getAdditionalCommands())
+                .build();
+    }
+
+    private static AddHasCasting getAddHasCasting(String capabilityKey) {
+        return EdgeOptions.CAPABILITY.equals(capabilityKey) ? new org.openqa.selenium.edge.AddHasCasting()
+                : new org.openqa.selenium.chrome.AddHasCasting();
+    }
+
+    private static AddHasCdp getAddHasCdp(String capabilityKey) {
+        return EdgeOptions.CAPABILITY.equals(capabilityKey) ? new org.openqa.selenium.edge.AddHasCdp()
+                : new org.openqa.selenium.chrome.AddHasCdp();
+    }
+}
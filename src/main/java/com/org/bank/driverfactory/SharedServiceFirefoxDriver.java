@@ -0,0 +1,96 @@
+package com.org.bank.driverfactory;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.firefox.AddHasContext;
+import org.openqa.selenium.firefox.AddHasExtensions;
+import org.openqa.selenium.firefox.AddHasFullPageScreenshot;
+import org.openqa.selenium.firefox.FirefoxCommandContext;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.firefox.HasContext;
+import org.openqa.selenium.firefox.HasExtensions;
+import org.openqa.selenium.firefox.HasFullPageScreenshot;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+/**
+ * A Firefox session that talks to a geckodriver service leased from {@link SharedDriverServices}.
+ * <p>
+ * The command executor of FirefoxDriver waits for its geckodriver process to exit and stops it on quit, so this
+ * session uses an HttpCommandExecutor that knows the Firefox commands instead and gives the service back when it
+ * quits. Switching the context, full page screenshots and installing extensions work as for FirefoxDriver. The
+ * session is not a FirefoxDriver though, and has no web storage, DevTools or BiDi support.
+ * Commands go through a {@link MonitoredCommandExecutor}, so the {@link SessionHealthWatchdog} can watch the session.
+ */
+final class SharedServiceFirefoxDriver extends RemoteWebDriver
+        implements HasContext, HasExtensions, HasFullPageScreenshot {
+
+    private final GeckoDriverService geckoDriverService;
+    private final HasContext context;
+    private final HasExtensions extensions;
+    private final HasFullPageScreenshot fullPageScreenshot;
+
+    SharedServiceFirefoxDriver(GeckoDriverService geckoDriverService, FirefoxOptions firefoxOptions) {
+        super(new MonitoredCommandExecutor(new HttpCommandExecutor(getCommands(), geckoDriverService.getUrl())),
+                firefoxOptions);
+        this.geckoDriverService = geckoDriverService;
+        context = new AddHasContext().getImplementation(getCapabilities(), getExecuteMethod());
+        extensions = new AddHasExtensions().getImplementation(getCapabilities(), getExecuteMethod());
+        fullPageScreenshot = new AddHasFullPageScreenshot<>().getImplementation(getCapabilities(), getExecuteMethod());
+    }
+
+    @Override
+    public void quit() {
+        try {
+            super.quit();
+        } finally {
+            SharedDriverServices.releaseGeckoDriverService(geckoDriverService);
+        }
+    }
+
+    @Override
+    public void setContext(FirefoxCommandContext commandContext) {
+        context.setContext(commandContext);
+    }
+
+    @Override
+    public FirefoxCommandContext getContext() {
+        return context.getContext();
+    }
+
+    @Override
+    public String installExtension(Path path) {
+        return extensions.installExtension(path);
+    }
+
+    @Override
+    public String installExtension(Path path, Boolean temporary) {
+        return extensions.installExtension(path, temporary);
+    }
+
+    @Override
+    public void uninstallExtension(String extensionId) {
+        extensions.uninstallExtension(extensionId);
+    }
+
+    @Override
+    public <X> X getFullPageScreenshotAs(OutputType<X> outputType) {
+        return fullPageScreenshot.getFullPageScreenshotAs(outputType);
+    }
+
+    /**
+     * This method returns the commands FirefoxDriver adds to the W3C commands.
+     */
+    private static Map<String, CommandInfo> getCommands() {
+        return ImmutableMap.<String, CommandInfo>builder()
+                .putAll(new AddHasContext().getAdditionalCommands())
+                .putAll(new AddHasExtensions().getAdditionalCommands())
+                .putAll(new AddHasFullPageScreenshot<>().getAdditionalCommands())
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.org.bank.driverfactory;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * This class records the origins a pooled session visited, so the session can clear the storage of every one of
+ * them before it is reused.
+ * <p>
+ * Sessions with DevTools record the origin of every frame navigation, so redirects, links followed by a click and
+ * iframes are covered, e.g. the move from demo.guru99.com to www.demo.guru99.com. Other sessions record the URLs
+ * launched through {@link com.org.bank.utils.SeleniumUtils#launchUrl(String)} and the windows open when the session
+ * is reset.
+ */
+@Slf4j
+public final class VisitedOrigins {
+
+    private static final Map<WebDriver, Set<String>> ORIGINS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private VisitedOrigins() {
+    }
+
+    /**
+     * This method starts recording the origins of a session. Calling it again for the same session does nothing.
+     *
+     * @param driver The session to record.
+     */
+    static void track(WebDriver driver) {
+        Set<String> origins = ConcurrentHashMap.newKeySet();
+        if (Objects.nonNull(ORIGINS.putIfAbsent(driver, origins))) {
+            return;
+        }
+        try {
+            DevToolsProtocol.getDevTools(driver).ifPresent(devTools -> DevToolsProtocol.addFrameNavigatedListener(
+                    devTools, securityOrigin -> getOrigin(securityOrigin).ifPresent(origins::add)));
+        } catch (Exception e) {
+            log.warn("Unable to record the navigations of the session with error message : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * This method records the origin of a URL a tracked session navigates to. Untracked sessions are ignored.
+     *
+     * @param driver The session.
+     * @param url    The URL the session navigates to.
+     */
+    public static void recordUrl(WebDriver driver, String url) {
+        Set<String> origins = ORIGINS.get(driver);
+        if (Objects.nonNull(origins)) {
+            getOrigin(url).ifPresent(origins::add);
+        }
+    }
+
+    /**
+     * This method returns the origins a session visited since the last call and starts a new record.
+     *
+     * @param driver The session.
+     * @return The visited origins, e.g. https://demo.guru99.com.
+     */
+    static Set<String> removeOrigins(WebDriver driver) {
+        Set<String> origins = ORIGINS.get(driver);
+        if (Objects.isNull(origins)) {
+            return Set.of();
+        }
+        Set<String> visitedOrigins = new LinkedHashSet<>(origins);
+        origins.removeAll(visitedOrigins);
+        return visitedOrigins;
+    }
+
+    /**
+     * This method stops recording the origins of a session, it is called when the session quits.
+     *
+     * @param driver The session.
+     */
+    static void forget(WebDriver driver) {
+        ORIGINS.remove(driver);
+    }
+
+    /**
+     * This method returns the origin of a URL.
+     *
+     * @param url The URL, e.g. https://www.demo.guru99.com/V4/index.php.
+     * @return The origin, e.g. https://www.demo.guru99.com, or empty for URLs without a host such as about:blank.
+     */
+    static Optional<String> getOrigin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (Objects.isNull(uri.getHost())) {
+                return Optional.empty();
+            }
+            return Optional.of(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Optional.empty();
+        }
+    }
+}
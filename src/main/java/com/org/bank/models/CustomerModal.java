@@ -0,0 +1,22 @@
+package com.org.bank.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CustomerModal {
+    private String customerName;
+    private String dateOfBirth;
+    private String address;
+    private String city;
+    private String state;
+    private String pinCode;
+    private String mobileNumber;
+    private String emailId;
+    private String password;
+}
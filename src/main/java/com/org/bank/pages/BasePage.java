@@ -3,6 +3,8 @@ package com.org.bank.pages;
 import java.util.Objects;
 
 import com.org.bank.constants.Constants;
+import com.org.bank.driverfactory.DriverFactory;
+import com.org.bank.driverfactory.DriverStartupTimer;
 import lombok.extern.slf4j.Slf4j;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
@@ -48,19 +50,20 @@ public class BasePage {
             log.error("Error occurred file getting the url with error message : {} ", e.getMessage());
         }
         assert url != null;
-        driver.get(url);
+        String launchUrl = url;
+        DriverStartupTimer.timeNavigation(driver, () -> driver.get(launchUrl));
         log.warn("Successfully launched the url : {} with sessionId : {}", url, ((RemoteWebDriver) driver).getSessionId());
-        seleniumUtils.setImplicitWait(30);
+        seleniumUtils.waitForPageReady();
         seleniumUtils.maximizeWindow();
     }
 
     /**
-     * Perform teardown operation
+     * Perform teardown operation, the session goes back to its pool when it is pooled
      */
     public void tearDown() {
         if (Objects.nonNull(driver)) {
-            log.warn("Driver with session : {} is killed", ((RemoteWebDriver) driver).getSessionId());
-            driver.quit();
+            log.warn("Driver with session : {} is released", ((RemoteWebDriver) driver).getSessionId());
+            DriverFactory.releaseWebDriver(driver);
         }
     }
 
@@ -8,11 +8,11 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.How;
-import org.openqa.selenium.support.PageFactory;
 import com.org.bank.exceptions.KeyNotValidException;
 import com.org.bank.exceptions.ValueNotFoundException;
 import com.org.bank.utils.DbUtils;
 import com.org.bank.utils.FileReaderUtil;
+import com.org.bank.utils.LocatorAwareFieldDecorator;
 import com.org.bank.utils.SeleniumUtils;
 
 import java.util.Map;
@@ -33,11 +33,11 @@ public final class CredPage {
     private String loginPageUrl;
 
     private CredPage(WebDriver driver) {
-        seleniumUtils = SeleniumUtils.newSeleniumUtils(driver);
+        seleniumUtils = SeleniumUtils.newSeleniumUtils(driver, CredPage.class.getSimpleName());
         try {
             var fileReaderUtil = FileReaderUtil.newFileReaderUtil(Constants.CONFIG_FILE_PATH);
             dbUtils = DbUtils.newDbUtils(fileReaderUtil.getPropertyValue("jdbcUrl"), fileReaderUtil.getPropertyValue("userName"), fileReaderUtil.getPropertyValue("password"));
-            PageFactory.initElements(driver, this);
+            LocatorAwareFieldDecorator.initElements(driver, this);
             var testUrlKey = "testUrl";
             loginPageUrl = fileReaderUtil.getPropertyValue(testUrlKey);
             var emailKey = "email";
@@ -93,14 +93,28 @@ public final class CredPage {
         return seleniumUtils.getTextOfElement(passwordValue);
     }
 
+    /**
+     * Get the validation message of the email id field, which the page only shows for an invalid email id
+     *
+     * @return : Validation message, or an empty String if the email id is valid
+     */
+    public String getEmailIdErrorMessage() {
+        return seleniumUtils.getTextOfOptionalElement(errorMessage);
+    }
+
     /**
      * Enter user id in UserId field
+     * A validation message shown for the email id is logged before the form is submitted.
      *
      * @return Instance of {@link CredPage} class
      */
     public CredPage enterEmailIdAndSubmit() {
         seleniumUtils.enterTextInWebElement(emailTextBox, emailId, true);
+        if (!seleniumUtils.isWebElementAbsent(errorMessage)) {
+            log.error("Email id : {} is not valid with message : {}", emailId, getEmailIdErrorMessage());
+        }
         seleniumUtils.performClick(submitButton);
+        seleniumUtils.waitForPageReady(userIdValue, passwordValue);
         return this;
     }
 
@@ -174,11 +188,13 @@ public final class CredPage {
 
     /**
      * This method is used to navigate to the login page of the application.
-     * It calls the launchUrl method of the seleniumUtils object, passing the login page URL as a parameter.
+     * It calls the launchUrl method of the seleniumUtils object, passing the login page URL as a parameter,
+     * and waits until the page is ready.
      * After the navigation, it logs an informational message indicating that the navigation has been successful and the credentials have been updated.
      */
     public void navigateToLoginPage() {
         seleniumUtils.launchUrl(loginPageUrl);
+        seleniumUtils.waitForPageReady();
         log.info("Navigated to : {} with updated credentials", loginPageUrl);
     }
 
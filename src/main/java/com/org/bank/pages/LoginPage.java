@@ -1,17 +1,15 @@
 package com.org.bank.pages;
 
-import com.org.bank.constants.Constants;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONArray;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.How;
-import org.openqa.selenium.support.PageFactory;
 import com.org.bank.models.LoginPageModal;
-import com.org.bank.utils.ExcelUtils;
+import com.org.bank.utils.LocatorAwareFieldDecorator;
 import com.org.bank.utils.SeleniumUtils;
-import com.org.bank.utils.StreamMapperUtils;
+import com.org.bank.utils.TestDataRepository;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,16 +24,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class LoginPage {
 
-    private final ExcelUtils excelUtils;
+    private final TestDataRepository testDataRepository;
     private final SeleniumUtils seleniumUtils;
-    private final StreamMapperUtils streamMapperUtils;
-    private static final String LABEL_QUERY = "Select usedIdLabel,passwordLabel,submitButtonLabel,resetButtonLabel,title from LoginPage";
+    private static final String SHEET_NAME = "LoginPage";
+    private static final List<String> LABEL_COLUMNS = List.of("usedidlabel", "passwordlabel", "submitbuttonlabel",
+            "resetbuttonlabel", "title");
 
     private LoginPage(WebDriver driver) {
-        seleniumUtils = SeleniumUtils.newSeleniumUtils(driver);
-        excelUtils = ExcelUtils.newExcelUtils(Constants.EXCEL_FILE_PATH);
-        streamMapperUtils = StreamMapperUtils.newStreamMapperUtils();
-        PageFactory.initElements(driver, this);
+        seleniumUtils = SeleniumUtils.newSeleniumUtils(driver, LoginPage.class.getSimpleName());
+        testDataRepository = TestDataRepository.getTestDataRepository();
+        LocatorAwareFieldDecorator.initElements(driver, this);
     }
 
     public static LoginPage newLoginPage(WebDriver driver) {
@@ -156,7 +154,13 @@ public final class LoginPage {
      * @return Data in list of hashmap
      */
     public List<Map<String, Object>> getLabelText() {
-        return excelUtils.fetchData(LABEL_QUERY);
+        return testDataRepository.getRows(SHEET_NAME).stream()
+                .map(row -> {
+                    Map<String, Object> labels = new HashMap<>(row);
+                    labels.keySet().retainAll(LABEL_COLUMNS);
+                    return labels;
+                })
+                .collect(Collectors.toList());
     }
 
     /**
@@ -165,7 +169,7 @@ public final class LoginPage {
      * @return {@link JSONArray}
      */
     public JSONArray getDataInJSON() {
-        return excelUtils.fetchDataInJSON(LABEL_QUERY);
+        return new JSONArray(getLabelText());
     }
 
     /**
@@ -174,10 +178,7 @@ public final class LoginPage {
      * @return : Data mapped to {@link LoginPageModal} class
      */
     public LoginPageModal getLoginPageLabelsText() {
-        String stringJson = excelUtils.fetchDataInJSON(LABEL_QUERY).toString();
-        LoginPageModal[] loginPageModal = streamMapperUtils.getClassMappedResponse(stringJson, LoginPageModal[].class);
-        assert loginPageModal != null;
-        List<LoginPageModal> loginPageModalList = Arrays.asList(loginPageModal);
+        List<LoginPageModal> loginPageModalList = testDataRepository.getRows(SHEET_NAME, LoginPageModal.class);
         Optional<LoginPageModal> loginPageModalOptional = loginPageModalList.stream().filter(x -> !(x.getTitle().isEmpty())).findFirst();
         return loginPageModalOptional.orElse(new LoginPageModal());
     }
@@ -188,11 +189,7 @@ public final class LoginPage {
      * @return Data mapped to {@link LoginPageModal} class
      */
     public List<LoginPageModal> getLoginCredentialsData() {
-        String credentialsQuery = "Select userId, password, expectedMessage from LoginPage";
-        String stringJson = excelUtils.fetchDataInJSON(credentialsQuery).toString();
-        LoginPageModal[] loginPageModal = streamMapperUtils.getClassMappedResponse(stringJson, LoginPageModal[].class);
-        assert loginPageModal != null;
-        return Arrays.asList(loginPageModal);
+        return testDataRepository.getRows(SHEET_NAME, LoginPageModal.class);
     }
 
     /**
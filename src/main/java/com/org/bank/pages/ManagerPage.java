@@ -1,34 +1,28 @@
 package com.org.bank.pages;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 
-import com.org.bank.constants.Constants;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import com.org.bank.models.ManagerPageModal;
-import com.org.bank.utils.ExcelUtils;
+import com.org.bank.utils.LocatorAwareFieldDecorator;
 import com.org.bank.utils.SeleniumUtils;
-import com.org.bank.utils.StreamMapperUtils;
+import com.org.bank.utils.TestDataRepository;
 
 @Slf4j
 public final class ManagerPage {
 
-    private final StreamMapperUtils streamMapperUtils;
     private final SeleniumUtils seleniumUtils;
-    private final ExcelUtils excelUtils;
+    private final TestDataRepository testDataRepository;
 
     private ManagerPage(WebDriver driver) {
-        seleniumUtils = SeleniumUtils.newSeleniumUtils(driver);
-        excelUtils = ExcelUtils.newExcelUtils(Constants.EXCEL_FILE_PATH);
-        streamMapperUtils = StreamMapperUtils.newStreamMapperUtils();
-        PageFactory.initElements(driver, this);
+        seleniumUtils = SeleniumUtils.newSeleniumUtils(driver, ManagerPage.class.getSimpleName());
+        testDataRepository = TestDataRepository.getTestDataRepository();
+        LocatorAwareFieldDecorator.initElements(driver, this);
     }
 
     public static ManagerPage newManagerPage(WebDriver driver) {
@@ -76,19 +70,13 @@ public final class ManagerPage {
 
 
     /**
-     * This method is used to fetch the data from the ManagerPage table in the database and map it to a list of ManagerPageModal objects.
-     * It uses the fetchDataInJSON method of the excelUtils object to execute the SQL query and get the result as a JSON string.
-     * Then, it uses the getClassMappedResponse method of the streamMapperUtils object to map the JSON string to an array of ManagerPageModal objects.
-     * The array is then converted to a list and returned.
-     * If the getClassMappedResponse method returns null, the Objects.requireNonNull method will throw a NullPointerException.
+     * This method is used to fetch the data from the ManagerPage sheet of the test data workbook as a list of ManagerPageModal objects.
+     * The sheet is read and mapped once per run by the {@link TestDataRepository}, later calls return the same unmodifiable list.
      *
      * @return A list of ManagerPageModal objects representing the data in the ManagerPage table.
      */
     public List<ManagerPageModal> getManagerPageData() {
-        return Arrays.asList(Objects.requireNonNull(streamMapperUtils.getClassMappedResponse(
-                excelUtils.fetchDataInJSON("Select * from ManagerPage").toString(),
-                ManagerPageModal[].class
-        )));
+        return testDataRepository.getRows("ManagerPage", ManagerPageModal.class);
     }
 
 
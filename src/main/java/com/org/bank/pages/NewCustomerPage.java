@@ -1,36 +1,37 @@
 package com.org.bank.pages;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import com.org.bank.constants.Constants;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import com.org.bank.models.CustomerModal;
 import com.org.bank.models.NewCustomerPageModal;
-import com.org.bank.utils.ExcelUtils;
+import com.org.bank.utils.ElementCache;
+import com.org.bank.utils.LocatorAwareFieldDecorator;
 import com.org.bank.utils.SeleniumUtils;
-import com.org.bank.utils.StreamMapperUtils;
+import com.org.bank.utils.TestDataRepository;
 
 @Slf4j
 public final class NewCustomerPage {
 
     private final SeleniumUtils seleniumUtils;
-    private final StreamMapperUtils streamUtils;
-    private final ExcelUtils excelUtils;
+    private final TestDataRepository testDataRepository;
 
     private static final String BLANK = "Blank";
 
     private static final String SPACE = "Space";
 
     private NewCustomerPage(WebDriver driver) {
-        seleniumUtils = SeleniumUtils.newSeleniumUtils(driver);
-        excelUtils = ExcelUtils.newExcelUtils(Constants.EXCEL_FILE_PATH);
-        streamUtils = StreamMapperUtils.newStreamMapperUtils();
-        PageFactory.initElements(driver, this);
+        seleniumUtils = SeleniumUtils.newSeleniumUtils(driver, NewCustomerPage.class.getSimpleName());
+        testDataRepository = TestDataRepository.getTestDataRepository();
+        LocatorAwareFieldDecorator.initElements(driver, this,
+                ElementCache.newElementCache(driver, NewCustomerPage.class.getSimpleName()));
     }
 
     public static NewCustomerPage newCustomerPage(WebDriver driver) {
@@ -155,81 +156,39 @@ public final class NewCustomerPage {
 
 
     /**
-     * This method retrieves the data for the 'New Customer' page from a database.
-     * It executes a SQL query to select all data from the 'NewCustomerPage' table,
-     * converts the result to JSON format, maps it to an array of NewCustomerPageModal objects,
-     * and returns this array as a list.
+     * This method retrieves the data for the 'New Customer' page from the test data workbook.
+     * The 'NewCustomerPage' sheet is read and mapped to NewCustomerPageModal objects once per run by the
+     * {@link TestDataRepository}, later calls return the same unmodifiable list.
      *
      * @return A list of NewCustomerPageModal objects representing the data for the 'New Customer' page.
      */
     public List<NewCustomerPageModal> getNewCustomerPageData() {
-        return Arrays.asList(Objects.requireNonNull(streamUtils.getClassMappedResponse(
-                excelUtils.fetchDataInJSON("Select * from NewCustomerPage").toString(),
-                NewCustomerPageModal[].class)));
+        return testDataRepository.getRows("NewCustomerPage", NewCustomerPageModal.class);
     }
 
 
     /**
      * This method retrieves validation messages for the 'Customer Name' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'Customer Name' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'Customer Name' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'Customer Name' message to the 'errorMessages' list.
-     * If the 'Customer Name' is "Blank", it enters an empty string into the WebElement.
-     * If the 'Customer Name' is "Space", it enters a single space into the WebElement.
-     * Otherwise, it enters the 'Customer Name' as is.
-     * Finally, it returns the 'errorMessages' list.
+     * It runs every 'Customer Name' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'Customer Name' field.
      */
     public List<String> getCustomerNameValidationMessages() {
-        List<String> errorMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getCustomerNameField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getCustomerNameField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(customerNameField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                errorMessages.add(seleniumUtils.getTextOfElement(customerNameMessage));
-            } else if (x.getCustomerNameField().equals(SPACE)) {
-                seleniumUtils.enterTextInWebElement(customerNameField, " ", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                errorMessages.add(seleniumUtils.getTextOfElement(customerNameMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(customerNameField, x.getCustomerNameField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                errorMessages.add(seleniumUtils.getTextOfElement(customerNameMessage));
-            }
-        });
-        return errorMessages;
+        return getValidationMessages(customerNameField, customerNameMessage, NewCustomerPageModal::getCustomerNameField);
     }
 
     /**
      * This method retrieves a validation message for the 'Customer Name' field based on the provided input.
-     * If the input is "Blank", it enters an empty string into the 'Customer Name' WebElement,
-     * performs a click action on the 'Add New Customer' heading, and returns the text of the 'Customer Name' message.
-     * If the input is "Space", it enters a single space into the 'Customer Name' WebElement,
-     * performs a click action on the 'Add New Customer' heading, and returns the text of the 'Customer Name' message.
-     * Otherwise, it enters the input as is into the 'Customer Name' WebElement,
-     * performs a click action on the 'Add New Customer' heading, and returns the text of the 'Customer Name' message.
+     * The input is run through the validators of the page in one script call.
+     * "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @param input A string representing the input to be entered into the 'Customer Name' field.
      * @return A string representing a validation message for the 'Customer Name' field.
      */
     public String getCustomerNameValidationMessages(String input) {
-        if (input.equals(BLANK)) {
-            seleniumUtils.enterTextInWebElement(customerNameField, "", true);
-            seleniumUtils.performClick(addNewCustomerHeading);
-            return seleniumUtils.getTextOfElement(customerNameMessage);
-        } else if (input.equals(SPACE)) {
-            seleniumUtils.enterTextInWebElement(customerNameField, " ", true);
-            seleniumUtils.performClick(addNewCustomerHeading);
-            return seleniumUtils.getTextOfElement(customerNameMessage);
-        } else {
-            seleniumUtils.enterTextInWebElement(customerNameField, input, true);
-            seleniumUtils.performClick(addNewCustomerHeading);
-            return seleniumUtils.getTextOfElement(customerNameMessage);
-        }
+        return seleniumUtils.getValidationMessages(customerNameField, customerNameMessage, List.of(toInputText(input)))
+                .stream().findFirst().orElse("");
     }
 
 
@@ -250,32 +209,13 @@ public final class NewCustomerPage {
 
     /**
      * This method retrieves validation messages for the 'Date of Birth' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'Date of Birth' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'Date of Birth' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'Date of Birth' message to the 'errorMessages' list.
-     * If the 'Date of Birth' is "Blank", it enters an empty string into the WebElement.
-     * Otherwise, it enters the 'Date of Birth' as is.
-     * Finally, it returns the 'errorMessages' list.
+     * It runs every 'Date of Birth' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'Date of Birth' field.
      */
     public List<String> getDateOfBirthValidationMessages() {
-        List<String> errorMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getDateOfBirthField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getDateOfBirthField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(dobField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                errorMessages.add(seleniumUtils.getTextOfElement(dateFieldMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(dobField, x.getDateOfBirthField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                errorMessages.add(seleniumUtils.getTextOfElement(dateFieldMessage));
-            }
-        });
-        return errorMessages;
+        return getValidationMessages(dobField, dateFieldMessage, NewCustomerPageModal::getDateOfBirthField);
     }
 
 
@@ -296,37 +236,13 @@ public final class NewCustomerPage {
 
     /**
      * This method retrieves validation messages for the 'City' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'City' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'City' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'City' message to the 'errorMessages' list.
-     * If the 'City' is "Blank", it enters an empty string into the WebElement.
-     * If the 'City' is "Space", it enters a single space into the WebElement.
-     * Otherwise, it enters the 'City' as is.
-     * Finally, it returns the 'errorMessages' list.
+     * It runs every 'City' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'City' field.
      */
     public List<String> getCityFieldValidationMessages() {
-        List<String> errorMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getCityField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getCityField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(cityField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                errorMessages.add(seleniumUtils.getTextOfElement(cityFieldMessage));
-            } else if (x.getCityField().equals(SPACE)) {
-                seleniumUtils.enterTextInWebElement(cityField, " ", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                errorMessages.add(seleniumUtils.getTextOfElement(cityFieldMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(cityField, x.getCityField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                errorMessages.add(seleniumUtils.getTextOfElement(cityFieldMessage));
-            }
-        });
-        return errorMessages;
+        return getValidationMessages(cityField, cityFieldMessage, NewCustomerPageModal::getCityField);
     }
 
 
@@ -346,37 +262,13 @@ public final class NewCustomerPage {
 
     /**
      * This method retrieves validation messages for the 'Pin Code' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'Pin Code' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'Pin Code' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'Pin Code' message to the 'validationMessages' list.
-     * If the 'Pin Code' is "Blank", it enters an empty string into the WebElement.
-     * If the 'Pin Code' is "Space", it enters a single space into the WebElement.
-     * Otherwise, it enters the 'Pin Code' as is.
-     * Finally, it returns the 'validationMessages' list.
+     * It runs every 'Pin Code' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'Pin Code' field.
      */
     public List<String> getPinCodeValidationMessages() {
-        List<String> validationMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getPincodeField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getPincodeField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(pinCodeField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(pinCodeFieldMessage));
-            } else if (x.getPincodeField().equals(SPACE)) {
-                seleniumUtils.enterTextInWebElement(pinCodeField, " ", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(pinCodeFieldMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(pinCodeField, x.getPincodeField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(pinCodeFieldMessage));
-            }
-        });
-        return validationMessages;
+        return getValidationMessages(pinCodeField, pinCodeFieldMessage, NewCustomerPageModal::getPincodeField);
     }
 
     /**
@@ -395,37 +287,13 @@ public final class NewCustomerPage {
 
     /**
      * This method retrieves validation messages for the 'Mobile Number' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'Mobile Number' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'Mobile Number' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'Mobile Number' message to the 'validationMessages' list.
-     * If the 'Mobile Number' is "Blank", it enters an empty string into the WebElement.
-     * If the 'Mobile Number' is "Space", it enters a single space into the WebElement.
-     * Otherwise, it enters the 'Mobile Number' as is.
-     * Finally, it returns the 'validationMessages' list.
+     * It runs every 'Mobile Number' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'Mobile Number' field.
      */
     public List<String> getMobileValidationMessages() {
-        List<String> validationMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getMobileNumberField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getMobileNumberField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(mobileNumberField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(mobileNumberFieldMessage));
-            } else if (x.getMobileNumberField().equals(SPACE)) {
-                seleniumUtils.enterTextInWebElement(mobileNumberField, " ", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(mobileNumberFieldMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(mobileNumberField, x.getMobileNumberField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(mobileNumberFieldMessage));
-            }
-        });
-        return validationMessages;
+        return getValidationMessages(mobileNumberField, mobileNumberFieldMessage, NewCustomerPageModal::getMobileNumberField);
     }
 
 
@@ -446,37 +314,13 @@ public final class NewCustomerPage {
 
     /**
      * This method retrieves validation messages for the 'State' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'State' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'State' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'State' message to the 'validationMessages' list.
-     * If the 'State' is "Blank", it enters an empty string into the WebElement.
-     * If the 'State' is "Space", it enters a single space into the WebElement.
-     * Otherwise, it enters the 'State' as is.
-     * Finally, it returns the 'validationMessages' list.
+     * It runs every 'State' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'State' field.
      */
     public List<String> getStateValidationMessages() {
-        List<String> validationMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getStateField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getStateField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(stateField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(stateFieldMessage));
-            } else if (x.getStateField().equals(SPACE)) {
-                seleniumUtils.enterTextInWebElement(stateField, " ", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(stateFieldMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(stateField, x.getStateField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(stateFieldMessage));
-            }
-        });
-        return validationMessages;
+        return getValidationMessages(stateField, stateFieldMessage, NewCustomerPageModal::getStateField);
     }
 
 
@@ -496,37 +340,13 @@ public final class NewCustomerPage {
 
     /**
      * This method retrieves validation messages for the 'Password' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'Password' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'Password' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'Password' message to the 'validationMessages' list.
-     * If the 'Password' is "Blank", it enters an empty string into the WebElement.
-     * If the 'Password' is "Space", it enters a single space into the WebElement.
-     * Otherwise, it enters the 'Password' as is.
-     * Finally, it returns the 'validationMessages' list.
+     * It runs every 'Password' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'Password' field.
      */
     public List<String> getPasswordValidationMessages() {
-        List<String> validationMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getPasswordField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getPasswordField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(passwordField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(passwordFieldMessage));
-            } else if (x.getPasswordField().equals(SPACE)) {
-                seleniumUtils.enterTextInWebElement(passwordField, " ", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(passwordFieldMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(passwordField, x.getPasswordField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(passwordFieldMessage));
-            }
-        });
-        return validationMessages;
+        return getValidationMessages(passwordField, passwordFieldMessage, NewCustomerPageModal::getPasswordField);
     }
 
 
@@ -546,37 +366,13 @@ public final class NewCustomerPage {
 
     /**
      * This method retrieves validation messages for the 'Address' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'Address' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'Address' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'Address' message to the 'validationMessages' list.
-     * If the 'Address' is "Blank", it enters an empty string into the WebElement.
-     * If the 'Address' is "Space", it enters a single space into the WebElement.
-     * Otherwise, it enters the 'Address' as is.
-     * Finally, it returns the 'validationMessages' list.
+     * It runs every 'Address' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'Address' field.
      */
     public List<String> getAddressValidationMessages() {
-        List<String> validationMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getAddressField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getAddressField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(addressField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(addressFieldMessage));
-            } else if (x.getAddressField().equals(SPACE)) {
-                seleniumUtils.enterTextInWebElement(addressField, " ", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(addressFieldMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(addressField, x.getAddressField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(addressFieldMessage));
-            }
-        });
-        return validationMessages;
+        return getValidationMessages(addressField, addressFieldMessage, NewCustomerPageModal::getAddressField);
     }
 
     /**
@@ -595,37 +391,13 @@ public final class NewCustomerPage {
 
     /**
      * This method retrieves validation messages for the 'Email' field.
-     * It first fetches the data for the 'New Customer' page, filters out any entries where the 'Email' field is empty,
-     * and collects the remaining entries into a list.
-     * Then, for each entry in this list, it enters the 'Email' into the corresponding WebElement,
-     * performs a click action on the 'Add New Customer' heading, and adds the text of the 'Email' message to the 'validationMessages' list.
-     * If the 'Email' is "Blank", it enters an empty string into the WebElement.
-     * If the 'Email' is "Space", it enters a single space into the WebElement.
-     * Otherwise, it enters the 'Email' as is.
-     * Finally, it returns the 'validationMessages' list.
+     * It runs every 'Email' input of the 'New Customer' page data through the validators of the page in one
+     * script call. "Blank" is entered as an empty string and "Space" as a single space.
      *
      * @return A list of strings, each representing a validation message for the 'Email' field.
      */
     public List<String> getEmailValidationMessages() {
-        List<String> validationMessages = new ArrayList<>();
-        List<NewCustomerPageModal> newCustomerPageModals = getNewCustomerPageData().stream()
-                .filter(x -> !x.getEmailField().isEmpty()).collect(Collectors.toList());
-        newCustomerPageModals.forEach(x -> {
-            if (x.getEmailField().equals(BLANK)) {
-                seleniumUtils.enterTextInWebElement(emailIdField, "", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(emailIdFieldMessage));
-            } else if (x.getEmailField().equals(SPACE)) {
-                seleniumUtils.enterTextInWebElement(emailIdField, " ", true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(emailIdFieldMessage));
-            } else {
-                seleniumUtils.enterTextInWebElement(emailIdField, x.getEmailField(), true);
-                seleniumUtils.performClick(addNewCustomerHeading);
-                validationMessages.add(seleniumUtils.getTextOfElement(emailIdFieldMessage));
-            }
-        });
-        return validationMessages;
+        return getValidationMessages(emailIdField, emailIdFieldMessage, NewCustomerPageModal::getEmailField);
     }
 
 
@@ -668,4 +440,75 @@ public final class NewCustomerPage {
         }
         return dataTable;
     }
+
+    /**
+     * This method fills the 'New Customer' form with the details of a customer in one script call.
+     * Details that are null are left untouched. The date of birth is expected as yyyy-MM-dd.
+     *
+     * @param customer The details of the customer.
+     * @return The current instance of the NewCustomerPage class.
+     */
+    public NewCustomerPage fillNewCustomerForm(CustomerModal customer) {
+        Map<WebElement, String> fieldValues = new LinkedHashMap<>();
+        fieldValues.put(customerNameField, customer.getCustomerName());
+        fieldValues.put(dobField, customer.getDateOfBirth());
+        fieldValues.put(addressField, customer.getAddress());
+        fieldValues.put(cityField, customer.getCity());
+        fieldValues.put(stateField, customer.getState());
+        fieldValues.put(pinCodeField, customer.getPinCode());
+        fieldValues.put(mobileNumberField, customer.getMobileNumber());
+        fieldValues.put(emailIdField, customer.getEmailId());
+        fieldValues.put(passwordField, customer.getPassword());
+        fieldValues.values().removeIf(Objects::isNull);
+        seleniumUtils.fillForm(fieldValues);
+        return this;
+    }
+
+    /**
+     * This method retrieves the validation messages the 'New Customer' form currently shows.
+     * Each field is read in the order of the form, and a field without a message gives an empty string.
+     *
+     * @return A list of strings, each representing the validation message of a field of the form.
+     */
+    public List<String> getNewCustomerFormValidationMessages() {
+        return Stream.of(customerNameMessage, dateFieldMessage, addressFieldMessage, cityFieldMessage,
+                        stateFieldMessage, pinCodeFieldMessage, mobileNumberFieldMessage, emailIdFieldMessage,
+                        passwordFieldMessage)
+                .map(seleniumUtils::getTextOfOptionalElement)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * This private method runs the inputs of one field of the 'New Customer' page data through the validators of the
+     * page and returns the resulting messages. Entries without an input for the field are skipped.
+     *
+     * @param field        The field to validate.
+     * @param messageLabel The label the page shows the validation message of the field in.
+     * @param input        Reads the input of the field from an entry of the page data.
+     * @return The validation message of every input, or an empty string where the input was valid.
+     */
+    private List<String> getValidationMessages(WebElement field, WebElement messageLabel,
+                                               Function<NewCustomerPageModal, String> input) {
+        List<String> inputs = getNewCustomerPageData().stream()
+                .map(input)
+                .filter(StringUtils::isNotEmpty)
+                .map(this::toInputText)
+                .collect(Collectors.toList());
+        return seleniumUtils.getValidationMessages(field, messageLabel, inputs);
+    }
+
+    /**
+     * This private method converts an input of the page data to the text to enter.
+     *
+     * @param input The input from the page data.
+     * @return An empty string for "Blank", a single space for "Space" and the input otherwise.
+     */
+    private String toInputText(String input) {
+        if (input.equals(BLANK)) {
+            return "";
+        } else if (input.equals(SPACE)) {
+            return " ";
+        }
+        return input;
+    }
 }
@@ -0,0 +1,51 @@
+package com.org.bank.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+/**
+ * The ways {@link SeleniumUtils#performClick(WebElement)} can click an element, in the order they are tried.
+ */
+public enum ClickStrategy {
+
+    /**
+     * The WebElement's click() method.
+     */
+    NATIVE {
+        @Override
+        void click(WebDriver driver, WebElement element) {
+            element.click();
+        }
+    },
+
+    /**
+     * The Actions class's click() method.
+     */
+    ACTIONS {
+        @Override
+        void click(WebDriver driver, WebElement element) {
+            new Actions(driver).click(element).build().perform();
+        }
+    },
+
+    /**
+     * The JavascriptExecutor's click() method.
+     */
+    JAVASCRIPT {
+        @Override
+        void click(WebDriver driver, WebElement element) {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click()", element);
+        }
+    };
+
+    /**
+     * This method clicks an element with the strategy.
+     *
+     * @param driver  The session the element belongs to.
+     * @param element The element to click.
+     * @throws org.openqa.selenium.WebDriverException if the click fails.
+     */
+    abstract void click(WebDriver driver, WebElement element);
+}
@@ -0,0 +1,111 @@
+package com.org.bank.utils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class remembers which {@link ClickStrategy} worked for each locator.
+ * <p>
+ * {@link SeleniumUtils#performClick(org.openqa.selenium.WebElement)} tries the learned strategy of a locator first,
+ * so a locator that always needs a JavaScript click does not pay for a failing native and Actions click every time.
+ * The learned strategy is forgotten as soon as it fails, and the full chain is tried again. The memory is shared by
+ * all sessions of the run, because page objects and their locators are.
+ */
+public final class ClickStrategyMemory {
+
+    private static final Map<String, ClickStrategy> LEARNED_STRATEGIES = new ConcurrentHashMap<>();
+    private static final Map<ClickStrategy, AtomicLong> CLICKS = new EnumMap<>(ClickStrategy.class);
+    private static final Map<ClickStrategy, AtomicLong> LEARNED_CLICKS = new EnumMap<>(ClickStrategy.class);
+    private static final AtomicLong FORGOTTEN_STRATEGIES = new AtomicLong();
+
+    static {
+        for (ClickStrategy clickStrategy : ClickStrategy.values()) {
+            CLICKS.put(clickStrategy, new AtomicLong());
+            LEARNED_CLICKS.put(clickStrategy, new AtomicLong());
+        }
+    }
+
+    private ClickStrategyMemory() {
+    }
+
+    /**
+     * This method returns the strategies to try for a locator, the learned strategy first.
+     *
+     * @param locator The locator of the element.
+     * @return The strategies in the order they are to be tried.
+     */
+    static List<ClickStrategy> getClickStrategies(String locator) {
+        List<ClickStrategy> clickStrategies = new ArrayList<>(List.of(ClickStrategy.values()));
+        ClickStrategy learnedStrategy = LEARNED_STRATEGIES.get(locator);
+        if (Objects.nonNull(learnedStrategy)) {
+            clickStrategies.remove(learnedStrategy);
+            clickStrategies.add(0, learnedStrategy);
+        }
+        return clickStrategies;
+    }
+
+    /**
+     * This method records a click that succeeded and learns the strategy for the locator.
+     *
+     * @param locator       The locator of the element.
+     * @param clickStrategy The strategy that clicked the element.
+     */
+    static void recordClick(String locator, ClickStrategy clickStrategy) {
+        CLICKS.get(clickStrategy).incrementAndGet();
+        if (LEARNED_STRATEGIES.put(locator, clickStrategy) == clickStrategy) {
+            LEARNED_CLICKS.get(clickStrategy).incrementAndGet();
+        }
+    }
+
+    /**
+     * This method records a click that failed and forgets the strategy if it was the learned one.
+     *
+     * @param locator       The locator of the element.
+     * @param clickStrategy The strategy that failed.
+     */
+    static void recordFailure(String locator, ClickStrategy clickStrategy) {
+        if (LEARNED_STRATEGIES.remove(locator, clickStrategy)) {
+            FORGOTTEN_STRATEGIES.incrementAndGet();
+        }
+    }
+
+    /**
+     * This method returns the number of successful clicks of a strategy.
+     *
+     * @param clickStrategy The strategy.
+     * @return The number of clicks the strategy made.
+     */
+    public static long getClickCount(ClickStrategy clickStrategy) {
+        return CLICKS.get(clickStrategy).get();
+    }
+
+    /**
+     * This method returns the number of successful clicks of a strategy that had been learned for the locator.
+     *
+     * @param clickStrategy The strategy.
+     * @return The number of clicks the learned strategy made on the first try.
+     */
+    public static long getLearnedClickCount(ClickStrategy clickStrategy) {
+        return LEARNED_CLICKS.get(clickStrategy).get();
+    }
+
+    /**
+     * This method summarises the clicks of the run for logging.
+     *
+     * @return The clicks and learned clicks of every strategy and the number of forgotten strategies.
+     */
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (ClickStrategy clickStrategy : ClickStrategy.values()) {
+            summary.append(String.format("%s %d clicks (%d learned), ", clickStrategy, getClickCount(clickStrategy),
+                    getLearnedClickCount(clickStrategy)));
+        }
+        return summary.append(String.format("%d learned strategies, %d forgotten", LEARNED_STRATEGIES.size(),
+                FORGOTTEN_STRATEGIES.get())).toString();
+    }
+}
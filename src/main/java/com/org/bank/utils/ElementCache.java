@@ -0,0 +1,147 @@
+package com.org.bank.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * This class keeps the resolved elements of one page object, so a field is looked up in the browser once instead of
+ * on every access.
+ * <p>
+ * A page opts in by passing its cache to {@link LocatorAwareFieldDecorator#initElements(org.openqa.selenium.SearchContext,
+ * Object, ElementCache)}. A cached element is evicted and looked up again when it throws a
+ * {@link org.openqa.selenium.StaleElementReferenceException}, and every cache of a session is cleared when
+ * {@link SeleniumUtils} navigates. The hits and misses of the caches are logged when the session is released.
+ */
+@Slf4j
+public final class ElementCache {
+
+    private static final Map<WebDriver, List<ElementCache>> ELEMENT_CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final String pageName;
+    private final Map<By, WebElement> elements = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong staleElements = new AtomicLong();
+
+    private ElementCache(String pageName) {
+        this.pageName = pageName;
+    }
+
+    /**
+     * This method creates the element cache of a page object and registers it with the session.
+     *
+     * @param driver   The session the page object belongs to.
+     * @param pageName The simple class name of the page object, e.g. NewCustomerPage.
+     * @return A new, empty {@link ElementCache}.
+     */
+    public static ElementCache newElementCache(WebDriver driver, String pageName) {
+        ElementCache elementCache = new ElementCache(pageName);
+        synchronized (ELEMENT_CACHES) {
+            ELEMENT_CACHES.computeIfAbsent(driver, key -> new ArrayList<>()).add(elementCache);
+        }
+        return elementCache;
+    }
+
+    /**
+     * This method clears every element cache of a session. It is called after a navigation, when none of the
+     * cached elements can be used any more.
+     *
+     * @param driver The session that navigated.
+     */
+    public static void invalidateElementCaches(WebDriver driver) {
+        getElementCaches(driver).forEach(ElementCache::invalidate);
+    }
+
+    /**
+     * This method logs the hits and misses of the element caches of a session and forgets the caches.
+     *
+     * @param driver The session that is released.
+     */
+    public static void releaseElementCaches(WebDriver driver) {
+        List<ElementCache> elementCaches;
+        synchronized (ELEMENT_CACHES) {
+            elementCaches = ELEMENT_CACHES.remove(driver);
+        }
+        if (Objects.nonNull(elementCaches)) {
+            elementCaches.forEach(elementCache -> log.info("Element cache of {}", elementCache.getSummary()));
+        }
+    }
+
+    private static List<ElementCache> getElementCaches(WebDriver driver) {
+        synchronized (ELEMENT_CACHES) {
+            return new ArrayList<>(ELEMENT_CACHES.getOrDefault(driver, Collections.emptyList()));
+        }
+    }
+
+    /**
+     * This method returns the cached element of a locator, looking it up on a miss.
+     *
+     * @param locator The locator of the field.
+     * @param finder  Looks the element up in the browser.
+     * @return The resolved element.
+     */
+    WebElement getElement(By locator, Supplier<WebElement> finder) {
+        WebElement element = elements.get(locator);
+        if (Objects.nonNull(element)) {
+            hits.incrementAndGet();
+            return element;
+        }
+        misses.incrementAndGet();
+        element = finder.get();
+        elements.put(locator, element);
+        return element;
+    }
+
+    /**
+     * This method evicts an element that turned out to be stale.
+     *
+     * @param locator The locator of the stale element.
+     */
+    void evictStaleElement(By locator) {
+        staleElements.incrementAndGet();
+        elements.remove(locator);
+    }
+
+    /**
+     * This method clears the cache.
+     */
+    public void invalidate() {
+        elements.clear();
+    }
+
+    /**
+     * @return The number of accesses served from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of accesses that looked the element up in the browser.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * This method summarises the cache for logging.
+     *
+     * @return The page name with the hits, misses and stale elements of the cache.
+     */
+    public String getSummary() {
+        return String.format("%s: %d hits, %d misses, %d stale elements", pageName, getHits(), getMisses(),
+                staleElements.get());
+    }
+}
@@ -78,4 +78,27 @@ public final class FileReaderUtil {
         return value;
     }
 
+    /**
+     * This method retrieves the value of a given key from the properties file, falling back to a default value.
+     * <p>
+     * It is meant for optional settings, so a missing key or an unreadable file is logged and the default value
+     * is returned instead of throwing an exception.
+     *
+     * @param key          The key for which the value needs to be retrieved.
+     * @param defaultValue The value to return when the key is not present.
+     * @return The value of the given key, or the default value if no value is found.
+     */
+    public String getPropertyValue(String key, String defaultValue) {
+        if (key == null || properties == null) {
+            log.warn("Unable to read key {} so using default value {}", key, defaultValue);
+            return defaultValue;
+        }
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            log.debug("No Value found for the key {} so using default value {}", key, defaultValue);
+            return defaultValue;
+        }
+        return value.trim();
+    }
+
 }
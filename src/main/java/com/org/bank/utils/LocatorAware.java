@@ -0,0 +1,21 @@
+package com.org.bank.utils;
+
+import org.openqa.selenium.By;
+
+/**
+ * Implemented by the elements and element lists that {@link LocatorAwareFieldDecorator} injects into page objects.
+ * The locator and the logical name are recorded once when the page is initialised, so reading them never
+ * touches the browser.
+ */
+public interface LocatorAware {
+
+    /**
+     * @return The locator of the {@code @FindBy} field.
+     */
+    By getLocator();
+
+    /**
+     * @return The name of the field, prefixed with its page, e.g. LoginPage.loginButton.
+     */
+    String getLogicalName();
+}
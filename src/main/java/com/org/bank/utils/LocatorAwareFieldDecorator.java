@@ -0,0 +1,149 @@
+package com.org.bank.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Objects;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+
+/**
+ * A PageFactory field decorator that records the locator and the logical name of every {@code @FindBy} field.
+ * <p>
+ * Fields are located lazily exactly as with {@link PageFactory#initElements(SearchContext, Object)}, but the
+ * injected elements and lists also implement {@link LocatorAware}. {@link SeleniumUtils} reads the locator from
+ * there for logging instead of parsing {@code toString()}, and {@code toString()} itself no longer looks the
+ * element up in the browser.
+ * <p>
+ * Pages that pass an {@link ElementCache} get their single element fields resolved once and reused until the element
+ * goes stale or the session navigates. Element lists are always looked up again, because their size can change
+ * without any element going stale.
+ */
+public final class LocatorAwareFieldDecorator extends DefaultFieldDecorator {
+
+    private final ElementCache elementCache;
+
+    private LocatorAwareFieldDecorator(SearchContext searchContext, ElementCache elementCache) {
+        super(new DefaultElementLocatorFactory(searchContext));
+        this.elementCache = elementCache;
+    }
+
+    /**
+     * This method initialises the {@code @FindBy} fields of a page object with locator aware elements.
+     *
+     * @param searchContext The driver or element the fields are searched from.
+     * @param page          The page object to initialise.
+     */
+    public static void initElements(SearchContext searchContext, Object page) {
+        PageFactory.initElements(new LocatorAwareFieldDecorator(searchContext, null), page);
+    }
+
+    /**
+     * This method initialises the {@code @FindBy} fields of a page object with locator aware elements that are
+     * resolved through the element cache of the page.
+     *
+     * @param searchContext The driver or element the fields are searched from.
+     * @param page          The page object to initialise.
+     * @param elementCache  The element cache of the page object.
+     */
+    public static void initElements(SearchContext searchContext, Object page, ElementCache elementCache) {
+        PageFactory.initElements(new LocatorAwareFieldDecorator(searchContext, elementCache), page);
+    }
+
+    @Override
+    public Object decorate(ClassLoader loader, Field field) {
+        Object element = super.decorate(loader, field);
+        if (Objects.isNull(element)) {
+            return null;
+        }
+        By locator = new Annotations(field).buildBy();
+        String logicalName = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        Class<?>[] interfaces = element instanceof WebElement
+                ? new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class, LocatorAware.class}
+                : new Class<?>[]{List.class, LocatorAware.class};
+        return Proxy.newProxyInstance(loader, interfaces, new LocatorAwareHandler(element, locator, logicalName,
+                element instanceof WebElement ? elementCache : null));
+    }
+
+    /**
+     * Answers the {@link LocatorAware} methods and {@code toString()} from the recorded metadata, compares fields by
+     * identity, so they can be used as map keys without a lookup, and passes every
+     * other call to the PageFactory proxy, or to the cached element when the page has an element cache.
+     */
+    private static final class LocatorAwareHandler implements InvocationHandler {
+
+        private final Object element;
+        private final By locator;
+        private final String logicalName;
+        private final ElementCache elementCache;
+
+        private LocatorAwareHandler(Object element, By locator, String logicalName, ElementCache elementCache) {
+            this.element = element;
+            this.locator = locator;
+            this.logicalName = logicalName;
+            this.elementCache = elementCache;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getLocator":
+                    return locator;
+                case "getLogicalName":
+                    return logicalName;
+                case "toString":
+                    return logicalName + " (" + locator + ")";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    if (Objects.isNull(elementCache) || method.getDeclaringClass() == Object.class) {
+                        return invokeOn(element, method, args);
+                    }
+                    return invokeOnCachedElement(method, args);
+            }
+        }
+
+        /**
+         * This method invokes a method on the cached element. A stale element is evicted, looked up again and the
+         * method is invoked once more.
+         */
+        private Object invokeOnCachedElement(Method method, Object[] args) throws Throwable {
+            WebElement webElement = getCachedElement();
+            if ("getWrappedElement".equals(method.getName())) {
+                return webElement;
+            }
+            try {
+                return invokeOn(webElement, method, args);
+            } catch (StaleElementReferenceException e) {
+                elementCache.evictStaleElement(locator);
+                return invokeOn(getCachedElement(), method, args);
+            }
+        }
+
+        private WebElement getCachedElement() {
+            return elementCache.getElement(locator, () -> ((WrapsElement) element).getWrappedElement());
+        }
+
+        private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.org.bank.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.org.bank.driverfactory.DevToolsProtocol;
+import com.org.bank.driverfactory.DriverFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * This class takes screenshots on the test thread and decodes and writes them on a bounded background executor.
+ * <p>
+ * The test thread only asks the browser for the encoded image, so a failing test does not wait for the driver to
+ * write a temporary file and for the file to be copied. Chrome and Edge sessions capture through the DevTools
+ * Page.captureScreenshot command with the configured format, quality and clip, other sessions capture a PNG through
+ * WebDriver:
+ * <pre>
+ * screenshot.format=png          # png, jpeg or webp, DevTools sessions only
+ * screenshot.quality=80          # jpeg and webp quality from 0 to 100
+ * screenshot.clip=viewport       # viewport or fullpage, DevTools sessions only
+ * screenshot.writer.threads=2    # Threads that decode and write screenshots
+ * screenshot.writer.queue=64     # Screenshots waiting to be written before the test thread writes them itself
+ * </pre>
+ * The path of a screenshot is known as soon as it is captured, so it can be added to the report right away.
+ * {@link #awaitPendingScreenshots()} waits until every screenshot is on disk.
+ */
+@Slf4j
+public final class ScreenshotPipeline {
+
+    private static ScreenshotPipeline screenshotPipeline;
+
+    private final String format;
+    private final int quality;
+    private final boolean fullPage;
+    private final ThreadPoolExecutor writerExecutor;
+    private final Set<CompletableFuture<Void>> pendingScreenshots = ConcurrentHashMap.newKeySet();
+
+    private ScreenshotPipeline() {
+        format = DriverFactory.getConfigurationValue("screenshot.format", "png").toLowerCase();
+        quality = Integer.parseInt(DriverFactory.getConfigurationValue("screenshot.quality", "80"));
+        fullPage = "fullpage".equalsIgnoreCase(DriverFactory.getConfigurationValue("screenshot.clip", "viewport"));
+        int threads = Integer.parseInt(DriverFactory.getConfigurationValue("screenshot.writer.threads", "2"));
+        int queueSize = Integer.parseInt(DriverFactory.getConfigurationValue("screenshot.writer.queue", "64"));
+        writerExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat("screenshot-writer-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * This method returns the screenshot pipeline shared by every session of the run.
+     *
+     * @return The process-wide {@link ScreenshotPipeline}.
+     */
+    public static synchronized ScreenshotPipeline getScreenshotPipeline() {
+        if (Objects.isNull(screenshotPipeline)) {
+            screenshotPipeline = new ScreenshotPipeline();
+        }
+        return screenshotPipeline;
+    }
+
+    /**
+     * This method captures a screenshot of the current page and writes it in the background.
+     *
+     * @param driver      The session to capture.
+     * @param destination The path of the screenshot without file extension.
+     * @return The path the screenshot is written to, with the extension of its format.
+     */
+    public String capture(WebDriver driver, String destination) {
+        long start = System.currentTimeMillis();
+        Optional<String> devToolsScreenshot = captureWithDevTools(driver);
+        String encodedScreenshot = devToolsScreenshot.orElseGet(() -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64));
+        String extension = devToolsScreenshot.isPresent() ? format : "png";
+        Path path = Paths.get(destination + "." + extension);
+        log.info("Captured the screenshot for {} in {} ms", path, System.currentTimeMillis() - start);
+        CompletableFuture<Void> pendingScreenshot = CompletableFuture.runAsync(() -> write(encodedScreenshot, path),
+                writerExecutor);
+        pendingScreenshots.add(pendingScreenshot);
+        pendingScreenshot.whenComplete((result, throwable) -> {
+            pendingScreenshots.remove(pendingScreenshot);
+            if (Objects.nonNull(throwable)) {
+                log.error("Error occurred while writing the screenshot at destination : {} with error message : {}",
+                        path, throwable.getMessage());
+            }
+        });
+        return path.toString();
+    }
+
+    /**
+     * This method waits until every captured screenshot has been written.
+     */
+    public void awaitPendingScreenshots() {
+        try {
+            CompletableFuture.allOf(pendingScreenshots.toArray(new CompletableFuture<?>[0])).join();
+        } catch (Exception e) {
+            log.warn("Not every screenshot could be written with error message : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * This method captures the current window through DevTools with the configured format, quality and clip.
+     *
+     * @param driver The session to capture.
+     * @return The base64 encoded screenshot, or empty if the session has no DevTools.
+     */
+    private Optional<String> captureWithDevTools(WebDriver driver) {
+        try {
+            return DevToolsProtocol.getDevTools(driver)
+                    .map(devTools -> DevToolsProtocol.captureScreenshot(devTools, format, quality, fullPage));
+        } catch (Exception e) {
+            log.warn("Unable to capture the screenshot through DevTools with error message : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * This method decodes a screenshot and writes it with a single channel write.
+     */
+    private static void write(String encodedScreenshot, Path path) {
+        ByteBuffer screenshot = ByteBuffer.wrap(Base64.getMimeDecoder().decode(encodedScreenshot));
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            if (Objects.nonNull(directory)) {
+                Files.createDirectories(directory);
+            }
+            try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (screenshot.hasRemaining()) {
+                    fileChannel.write(screenshot);
+                }
+            }
+            log.info("Successfully wrote the screenshot at destination : {}", path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -5,14 +5,23 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
+import com.org.bank.driverfactory.DriverStartupTimer;
+import com.org.bank.driverfactory.PendingRequestTracker;
+import com.org.bank.driverfactory.VisitedOrigins;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
@@ -29,21 +38,109 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 @Slf4j
 public final class SeleniumUtils {
 
-    private int defaultTime = 30;
+    private static final String READINESS_PROBE_SCRIPT = PendingRequestTracker.INSTALL_SCRIPT
+            + "return document.readyState !== 'loading' && window.__seleniumPendingRequests === 0;";
+
+    private static final String BULK_READ_SCRIPT = "var attributeName = arguments[1];"
+            + "return arguments[0].map(function (element) {"
+            + "  var style = window.getComputedStyle(element);"
+            + "  var attribute = null;"
+            + "  if (attributeName) {"
+            + "    var property = element[attributeName];"
+            + "    if (typeof property === 'boolean') {"
+            + "      attribute = property ? 'true' : null;"
+            + "    } else if (property !== undefined && property !== null && typeof property !== 'object'"
+            + "        && typeof property !== 'function') {"
+            + "      attribute = String(property);"
+            + "    } else {"
+            + "      attribute = element.getAttribute(attributeName);"
+            + "    }"
+            + "  }"
+            + "  var displayed = style.display !== 'none' && style.visibility !== 'hidden'"
+            + "      && element.getClientRects().length > 0;"
+            + "  return {"
+            + "    text: displayed ? (element.innerText || '').replace(/\\u00a0/g, ' ').trim() : '',"
+            + "    displayed: displayed,"
+            + "    enabled: !element.disabled,"
+            + "    attribute: attribute"
+            + "  };"
+            + "});";
+
+    private static final String FORM_FILL_SCRIPT = "var elements = arguments[0], values = arguments[1];"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "  var element = elements[i];"
+            + "  var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value');"
+            + "  if (descriptor && descriptor.set) {"
+            + "    descriptor.set.call(element, values[i]);"
+            + "  } else {"
+            + "    element.value = values[i];"
+            + "  }"
+            + "  element.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  element.dispatchEvent(new KeyboardEvent('keyup', {bubbles: true}));"
+            + "  element.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  element.dispatchEvent(new FocusEvent('blur'));"
+            + "}";
+
+    private static final String VALIDATION_SCRIPT = "var field = arguments[0], label = arguments[1], inputs = arguments[2];"
+            + "var callback = arguments[arguments.length - 1];"
+            + "var descriptor = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(field), 'value');"
+            + "var messages = [];"
+            + "function readMessage() {"
+            + "  var style = window.getComputedStyle(label);"
+            + "  var displayed = style.display !== 'none' && style.visibility !== 'hidden' && label.getClientRects().length > 0;"
+            + "  return displayed ? (label.innerText || '').replace(/\\u00a0/g, ' ').trim() : '';"
+            + "}"
+            + "function validate(index) {"
+            + "  if (index > 0) {"
+            + "    messages.push(readMessage());"
+            + "  }"
+            + "  if (index === inputs.length) {"
+            + "    callback(messages);"
+            + "    return;"
+            + "  }"
+            + "  if (descriptor && descriptor.set) {"
+            + "    descriptor.set.call(field, inputs[index]);"
+            + "  } else {"
+            + "    field.value = inputs[index];"
+            + "  }"
+            + "  field.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  field.dispatchEvent(new KeyboardEvent('keyup', {bubbles: true}));"
+            + "  field.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  field.dispatchEvent(new FocusEvent('blur'));"
+            + "  setTimeout(function () { validate(index + 1); }, 0);"
+            + "}"
+            + "validate(0);";
+
+    private final int defaultTime;
 
     private final WebDriver driver;
+    private final WaitPolicy waitPolicy;
 
-    private SeleniumUtils(WebDriver driver) {
+    private SeleniumUtils(WebDriver driver, String pageName) {
         this.driver = driver;
+        waitPolicy = WaitPolicy.getWaitPolicy(driver);
+        defaultTime = (int) waitPolicy.getTimeout(pageName).getSeconds();
     }
 
     private SeleniumUtils(WebDriver driver, int waitTimeInSecond) {
         this.driver = driver;
+        waitPolicy = WaitPolicy.getWaitPolicy(driver);
         defaultTime = waitTimeInSecond;
     }
 
     public static SeleniumUtils newSeleniumUtils(WebDriver driver) {
-        return new SeleniumUtils(driver);
+        return new SeleniumUtils(driver, (String) null);
+    }
+
+    /**
+     * This method creates a SeleniumUtils instance whose default wait is the configured timeout of a page.
+     *
+     * @param driver   The WebDriver session.
+     * @param pageName The simple class name of the page object, e.g. ManagerPage.
+     * @return A new SeleniumUtils instance.
+     */
+    public static SeleniumUtils newSeleniumUtils(WebDriver driver, String pageName) {
+        return new SeleniumUtils(driver, pageName);
     }
 
     public static SeleniumUtils newSeleniumUtils(WebDriver driver, int waitTimeInSecond) {
@@ -51,16 +148,16 @@ public final class SeleniumUtils {
     }
 
     /**
-     * Creates a new WebDriverWait instance with a specified wait time.
+     * Returns the WebDriverWait instance for a specified wait time.
      * <p>
-     * This method creates a new WebDriverWait instance that will wait for a maximum of the specified number of seconds
-     * before throwing a TimeoutException. The WebDriverWait instance is associated with the WebDriver instance of this class.
+     * The WebDriverWait instance comes from the {@link WaitPolicy} of the session, which reuses one instance per
+     * timeout and polls at the configured interval. It throws a TimeoutException when the wait time has passed.
      *
      * @param waitTimeInSecond The maximum time to wait in seconds.
-     * @return A new WebDriverWait instance.
+     * @return The WebDriverWait instance for the wait time.
      */
     private WebDriverWait getWebdriverWait(int waitTimeInSecond) {
-        return new WebDriverWait(driver, Duration.ofSeconds(waitTimeInSecond));
+        return waitPolicy.getWebDriverWait(Duration.ofSeconds(waitTimeInSecond));
     }
 
     /**
@@ -75,17 +172,29 @@ public final class SeleniumUtils {
     }
 
     /**
-     * Extracts the locator from a WebElement.
+     * Describes the locator of a WebElement for logging.
      * <p>
-     * This method takes a WebElement as an argument, converts it to a string, and then splits it based on "->".
-     * It then takes the second part of the split string (index 1), and removes the last character "]" from it.
-     * The resulting string is the locator of the WebElement.
+     * Elements injected by {@link LocatorAwareFieldDecorator} already know their logical name and locator, so they
+     * are returned as they are and describe themselves without a call to the browser.
+     * For any other element the locator is parsed from {@code toString()}, splitting it on "->" and removing the
+     * trailing "]". The parsing is deferred until the message is actually logged, so nothing is built when the
+     * log level is disabled.
      *
      * @param element The WebElement from which to extract the locator.
-     * @return The locator of the WebElement as a String.
+     * @return An object whose {@code toString()} is the locator of the WebElement.
      */
-    private String getLocatorFromWebElement(WebElement element) {
-        return element.toString().split("->")[1].replaceFirst("(?s)(.*)\\]", "$1" + "");
+    private Object getLocatorFromWebElement(WebElement element) {
+        if (element instanceof LocatorAware) {
+            return element;
+        }
+        return new Object() {
+            @Override
+            public String toString() {
+                String description = element.toString();
+                String[] parts = description.split("->");
+                return parts.length > 1 ? parts[1].replaceFirst("(?s)(.*)\\]", "$1" + "") : description;
+            }
+        };
     }
 
 
@@ -182,7 +291,10 @@ public final class SeleniumUtils {
      * If the element is not found within this time, a NoSuchElementException will be thrown.
      *
      * @param timeInSecond The time to wait in seconds.
+     * @deprecated The {@link WaitPolicy} keeps implicit waits at zero so they do not stack with explicit waits.
+     * Use the explicit waits of this class instead.
      */
+    @Deprecated
     public void setImplicitWait(int timeInSecond) {
         try {
             driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(timeInSecond));
@@ -219,7 +331,7 @@ public final class SeleniumUtils {
      */
     public void performClickUsingActionClass(WebElement element) {
         waitForElementToBeClickable(element);
-        String locator = getLocatorFromWebElement(element);
+        Object locator = getLocatorFromWebElement(element);
         try {
             getActions().click(element).build().perform();
             log.info("Clicking on {} using action class", locator);
@@ -240,7 +352,7 @@ public final class SeleniumUtils {
      */
     public void performClickUsingJSExecutor(WebElement element) {
         waitForElementToBeClickable(element);
-        String locator = getLocatorFromWebElement(element);
+        Object locator = getLocatorFromWebElement(element);
         try {
             ((JavascriptExecutor) driver).executeScript("arguments[0].click()", element);
             log.info("Clicking on {} using javascript executor", locator);
@@ -260,28 +372,30 @@ public final class SeleniumUtils {
      * 2. The Actions class's click() method.
      * 3. The JavascriptExecutor's click() method.
      * <p>
-     * If an error occurs during any of these processes, it will try the next method. If all methods fail, an error message is logged.
+     * The method that worked is remembered for the locator in {@link ClickStrategyMemory} and tried first next time.
+     * If an error occurs during any of these processes, it will try the next method and forgets the remembered method
+     * if that was the one that failed. If all methods fail, an error message is logged.
      *
      * @param element The WebElement to perform the click action on.
      */
     public void performClick(WebElement element) {
         waitForElementToBeClickable(element);
-        String locator = getLocatorFromWebElement(element);
-        try {
-            element.click();
-            log.info("Clicked on {} ", locator);
-        } catch (Exception e) {
-            log.warn("Unable to click on {} using element.click() method trying anther way", locator);
+        Object locator = getLocatorFromWebElement(element);
+        String locatorKey = String.valueOf(locator);
+        Exception lastException = null;
+        for (ClickStrategy clickStrategy : ClickStrategyMemory.getClickStrategies(locatorKey)) {
             try {
-                performClickUsingActionClass(element);
-            } catch (Exception e1) {
-                try {
-                    performClickUsingJSExecutor(element);
-                } catch (Exception e2) {
-                    log.error("Error occurred while clicking on : {} with error message : {}", locator, e2.getMessage());
-                }
+                clickStrategy.click(driver, element);
+                ClickStrategyMemory.recordClick(locatorKey, clickStrategy);
+                log.info("Clicked on {} using {} click", locator, clickStrategy);
+                return;
+            } catch (Exception e) {
+                ClickStrategyMemory.recordFailure(locatorKey, clickStrategy);
+                log.warn("Unable to click on {} using {} click trying another way", locator, clickStrategy);
+                lastException = e;
             }
         }
+        log.error("Error occurred while clicking on : {} with error message : {}", locator, lastException.getMessage());
     }
 
 
@@ -297,7 +411,7 @@ public final class SeleniumUtils {
      */
     public String getTextOfElement(WebElement element) {
         waitForElementVisibility(element);
-        String locator = getLocatorFromWebElement(element);
+        Object locator = getLocatorFromWebElement(element);
         try {
             String text = element.getText();
             log.info("Text of {} is {}", locator, text);
@@ -322,7 +436,7 @@ public final class SeleniumUtils {
      */
     public String getAttribute(WebElement element, String attributeName) {
         waitForElementVisibility(element);
-        String locator = getLocatorFromWebElement(element);
+        Object locator = getLocatorFromWebElement(element);
         try {
             String text = element.getAttribute(attributeName);
             log.info("Attribute of {} with attribute name {} is {}", locator, attributeName, text);
@@ -340,6 +454,8 @@ public final class SeleniumUtils {
      * This method first waits for the specified WebElement to become visible on the page.
      * It then checks if the WebElement is displayed on the page.
      * If the WebElement is displayed, it returns true. If the WebElement is not displayed or an error occurs, it returns false.
+     * A missing element costs the full default wait, use {@link #isOptionalWebElementPresent(WebElement)} or
+     * {@link #isWebElementAbsent(WebElement)} for elements that may not be there.
      *
      * @param element The WebElement to check for presence.
      * @return true if the WebElement is displayed, false otherwise.
@@ -355,6 +471,83 @@ public final class SeleniumUtils {
         return isElementVisible;
     }
 
+    /**
+     * Checks if a WebElement is displayed on the page right now, without waiting.
+     * <p>
+     * For elements injected by {@link LocatorAwareFieldDecorator} this method counts the matches of the locator with
+     * findElements, so a missing element costs one command instead of a NoSuchElementException. Other elements are
+     * asked whether they are displayed. Missing and stale elements are reported as not present.
+     *
+     * @param element The WebElement to check for presence.
+     * @return true if the WebElement is displayed, false otherwise.
+     */
+    public boolean isWebElementPresentNow(WebElement element) {
+        try {
+            if (element instanceof LocatorAware) {
+                List<WebElement> webElements = driver.findElements(((LocatorAware) element).getLocator());
+                return !webElements.isEmpty() && webElements.get(0).isDisplayed();
+            }
+            return element.isDisplayed();
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if an optional WebElement is displayed on the page.
+     * <p>
+     * This method polls for the WebElement for the short optional timeout (wait.optional.millis) instead of the
+     * default wait, so an element that is not shown fails fast.
+     *
+     * @param element The optional WebElement to check for presence.
+     * @return true if the WebElement is displayed within the optional timeout, false otherwise.
+     */
+    public boolean isOptionalWebElementPresent(WebElement element) {
+        try {
+            return waitPolicy.getWebDriverWait(waitPolicy.getOptionalTimeout()).until(webDriver -> isWebElementPresentNow(element));
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if a WebElement is absent from the page.
+     * <p>
+     * This method polls until the WebElement is missing or hidden, for at most the short optional timeout
+     * (wait.optional.millis). It is meant for assertions that an element should not be there, which would otherwise
+     * wait the full default time.
+     *
+     * @param element The WebElement that should be absent.
+     * @return true if the WebElement is missing or hidden within the optional timeout, false otherwise.
+     */
+    public boolean isWebElementAbsent(WebElement element) {
+        Object locator = getLocatorFromWebElement(element);
+        try {
+            waitPolicy.getWebDriverWait(waitPolicy.getOptionalTimeout()).until(webDriver -> !isWebElementPresentNow(element));
+            return true;
+        } catch (TimeoutException e) {
+            log.info("{} is still displayed after {} ms", locator, waitPolicy.getOptionalTimeout().toMillis());
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the text of an optional WebElement, such as a validation message that is only shown for invalid input.
+     * <p>
+     * This method waits for the WebElement for the short optional timeout only.
+     * If the WebElement is not displayed within that time, an empty String is returned.
+     *
+     * @param element The optional WebElement to retrieve the text from.
+     * @return The text of the WebElement, or an empty String if it is not displayed.
+     */
+    public String getTextOfOptionalElement(WebElement element) {
+        if (!isOptionalWebElementPresent(element)) {
+            log.info("{} is not displayed", getLocatorFromWebElement(element));
+            return "";
+        }
+        return getTextOfElement(element);
+    }
+
     /**
      * Checks if a WebElement is enabled on the page.
      * <p>
@@ -367,7 +560,7 @@ public final class SeleniumUtils {
      */
     public boolean isWebElementEnabled(WebElement element) {
         waitForElementVisibility(element);
-        String locator = getLocatorFromWebElement(element);
+        Object locator = getLocatorFromWebElement(element);
         boolean isEnabled = true;
         try {
             isEnabled = element.isEnabled();
@@ -431,10 +624,44 @@ public final class SeleniumUtils {
      * @param url The URL to navigate to.
      */
     public void launchUrl(String url) {
-        driver.navigate().to(url);
+        VisitedOrigins.recordUrl(driver, url);
+        DriverStartupTimer.timeNavigation(driver, () -> driver.navigate().to(url));
+        ElementCache.invalidateElementCaches(driver);
         log.info("Successfully launched the url : {}", url);
     }
 
+    /**
+     * Waits until the page is ready for the page object, without waiting for third-party content.
+     * <p>
+     * An injected script reports the page ready once the DOM is parsed and no fetch or XHR request started by the
+     * page is pending. On Chrome and Edge sessions the requests are counted by the {@link PendingRequestTracker}
+     * from the start of every page. Other sessions only count requests from the first run of the probe on the page,
+     * after the navigation returned, so for them the probe is in practice a DOM ready check. The given anchors, usually
+     * {@code @FindBy} fields of the page object, must also be attached and displayed. As the {@link WaitPolicy} keeps
+     * implicit waits at zero, a missing anchor costs one poll instead of an implicit wait.
+     * If the page is not ready within the default wait time a warning is logged and the caller carries on.
+     *
+     * @param anchors The elements the page object needs.
+     */
+    public void waitForPageReady(WebElement... anchors) {
+        try {
+            getWebdriverWait(defaultTime).until(webDriver -> {
+                if (!Boolean.TRUE.equals(((JavascriptExecutor) webDriver).executeScript(READINESS_PROBE_SCRIPT))) {
+                    return false;
+                }
+                for (WebElement anchor : anchors) {
+                    if (!anchor.isDisplayed()) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            log.info("Page is ready : {}", driver.getCurrentUrl());
+        } catch (TimeoutException e) {
+            log.warn("Page was not ready after {} seconds : {}", defaultTime, driver.getCurrentUrl());
+        }
+    }
+
     /**
      * Retrieves the title of the current page.
      * <p>
@@ -457,6 +684,7 @@ public final class SeleniumUtils {
      */
     public void refresh() {
         driver.navigate().refresh();
+        ElementCache.invalidateElementCaches(driver);
         log.info("{} : Page is successfully refreshed", getTitle());
     }
 
@@ -468,6 +696,7 @@ public final class SeleniumUtils {
      */
     public void navigateForward() {
         driver.navigate().forward();
+        ElementCache.invalidateElementCaches(driver);
         log.info("Successfully navigated forward from page : {} ", driver.getTitle());
     }
 
@@ -479,6 +708,7 @@ public final class SeleniumUtils {
      */
     public void navigateBackward() {
         driver.navigate().back();
+        ElementCache.invalidateElementCaches(driver);
         log.info("Successfully navigated backward from page : {} ", driver.getTitle());
     }
 
@@ -536,7 +766,7 @@ public final class SeleniumUtils {
      */
     public void enterTextInWebElement(WebElement element, String text, boolean isAfterClear) {
         waitForElementToBeClickable(element);
-        String locator = getLocatorFromWebElement(element);
+        Object locator = getLocatorFromWebElement(element);
         try {
             if (isAfterClear) {
                 element.clear();
@@ -550,22 +780,80 @@ public final class SeleniumUtils {
     }
 
 
+    /**
+     * Sets the text of several WebElements in one script call.
+     * <p>
+     * This method waits for the first WebElement to become clickable on the page.
+     * It then replaces the value of every WebElement in the order of the map and dispatches the input, keyup, change
+     * and blur events on each of them, so validators listening for any of them still run.
+     * Values are set as the element expects them, e.g. yyyy-MM-dd for a date input.
+     * If an error occurs during this process, an error message is logged.
+     *
+     * @param fieldValues The WebElements and the text to set on each of them.
+     */
+    public void fillForm(Map<WebElement, String> fieldValues) {
+        if (fieldValues.isEmpty()) {
+            return;
+        }
+        List<WebElement> elements = new ArrayList<>(fieldValues.keySet());
+        List<String> values = new ArrayList<>(fieldValues.values());
+        waitForElementToBeClickable(elements.get(0));
+        List<Object> locators = new ArrayList<>();
+        elements.forEach(element -> locators.add(getLocatorFromWebElement(element)));
+        try {
+            ((JavascriptExecutor) driver).executeScript(FORM_FILL_SCRIPT, elements, values);
+            log.info("Entered text : {} in : {}", values, locators);
+        } catch (Exception e) {
+            log.error("Error while entering text in : {} with error message : {}", locators, e.getMessage());
+        }
+    }
+
+    /**
+     * Runs a batch of inputs through the validators of a field and returns the validation message of every input.
+     * <p>
+     * This method waits for the specified field to become clickable on the page.
+     * It then sets every input in turn, dispatches the input, keyup, change and blur events the validators of the
+     * page listen for and reads the message label once the validators have run, all in one asynchronous script call.
+     * The message of a valid input is an empty String, because the page hides the label.
+     * If an error occurs during this process, an error message is logged and an empty list is returned.
+     *
+     * @param field        The field to validate.
+     * @param messageLabel The label the page shows the validation message of the field in.
+     * @param inputs       The inputs to validate, in order.
+     * @return The validation message of every input, in the order of the inputs.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getValidationMessages(WebElement field, WebElement messageLabel, List<String> inputs) {
+        if (inputs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        waitForElementToBeClickable(field);
+        Object locator = getLocatorFromWebElement(field);
+        try {
+            List<String> messages = new ArrayList<>((List<String>) ((JavascriptExecutor) driver)
+                    .executeAsyncScript(VALIDATION_SCRIPT, field, messageLabel, inputs));
+            log.info("Validation messages of {} for inputs : {} are : {}", locator, inputs, messages);
+            return messages;
+        } catch (Exception e) {
+            log.error("Error occurred while validating {} with error message : {}", locator, e.getMessage());
+        }
+        return new ArrayList<>();
+    }
+
     /**
      * Takes a screenshot of the current webpage and saves it to a specified location.
      * <p>
      * This method uses the WebDriver's TakesScreenshot interface to take a screenshot of the current webpage.
-     * The screenshot is then saved as a File.
-     * The screenshot is then copied to the specified destination.
+     * The screenshot is taken as bytes and written to the specified destination, without a temporary file.
      * If an error occurs during this process, an error message is logged.
      *
      * @param destination The location to save the screenshot to.
      */
     public void takesWebPageScreenShot(String destination) {
         TakesScreenshot screenshot = (TakesScreenshot) driver;
-        File srcFile = screenshot.getScreenshotAs(OutputType.FILE);
-        File destFile = new File(destination);
+        byte[] screenshotBytes = screenshot.getScreenshotAs(OutputType.BYTES);
         try {
-            FileUtils.copyFile(srcFile, destFile);
+            FileUtils.writeByteArrayToFile(new File(destination), screenshotBytes);
             log.info("Successfully copied the screenshot at destination : {}", destination);
         } catch (IOException e) {
             log.error("Error occurred file copying the screenshot at destination : {} with error message :{}",
@@ -573,11 +861,25 @@ public final class SeleniumUtils {
         }
     }
 
+    /**
+     * Takes a screenshot of the current webpage and saves it in the background.
+     * <p>
+     * This method only captures the screenshot on the calling thread. Decoding and writing the screenshot is left to
+     * the {@link ScreenshotPipeline}, which also picks the format, quality and clip of the screenshot.
+     *
+     * @param destination The location to save the screenshot to, without file extension.
+     * @return The path the screenshot is written to, with the extension of its format.
+     */
+    public String takeWebPageScreenShotInBackground(String destination) {
+        return ScreenshotPipeline.getScreenshotPipeline().capture(driver, destination);
+    }
+
     /**
      * Retrieves the text of a list of WebElements.
      * <p>
-     * This method iterates over a list of WebElements, waits for each element to become visible,
-     * retrieves the text of each element, and adds it to a list. This list is then returned.
+     * This method waits once for the whole list to become visible and then reads the text of every element
+     * with a single script call, so the cost does not grow with the number of elements. Like
+     * {@link WebElement#getText()}, an element that is not displayed gives an empty String.
      * If an error occurs during this process, an error message is logged.
      *
      * @param elementsList The list of WebElements to retrieve the text from.
@@ -586,19 +888,126 @@ public final class SeleniumUtils {
     public List<String> getWebElementsText(List<WebElement> elementsList) {
         List<String> list = new ArrayList<>();
         try {
-            for (WebElement element : elementsList) {
-                waitForElementVisibility(element);
-                String locatorText = getLocatorFromWebElement(element);
-                String text = element.getText();
-                log.info("Text of locator : {} is : {}", locatorText, text);
-                list.add(element.getText());
-            }
+            readWebElements(elementsList, null, true).forEach(values -> list.add((String) values.get("text")));
+            log.info("Text of {} elements is : {}", list.size(), list);
         } catch (Exception e) {
             log.error("Error occurred while getting the text of elements with error : {}", e.getMessage());
         }
         return list;
     }
 
+    /**
+     * Retrieves an attribute value of a list of WebElements.
+     * <p>
+     * This method waits once for the whole list to become visible and then reads the attribute of every element
+     * with a single script call. Like {@link WebElement#getAttribute(String)}, the property of the element is
+     * preferred over the attribute, so e.g. "value" returns the current value of an input.
+     * If an error occurs during this process, an error message is logged.
+     *
+     * @param elementsList  The list of WebElements to retrieve the attribute value from.
+     * @param attributeName The name of the attribute to retrieve the value of.
+     * @return A list of the attribute values, with null for elements that do not have the attribute.
+     */
+    public List<String> getWebElementsAttribute(List<WebElement> elementsList, String attributeName) {
+        List<String> list = new ArrayList<>();
+        try {
+            readWebElements(elementsList, attributeName, true).forEach(values -> list.add((String) values.get("attribute")));
+            log.info("Attribute {} of {} elements is : {}", attributeName, list.size(), list);
+        } catch (Exception e) {
+            log.error("Error occurred while getting the attribute {} of elements with error : {}", attributeName, e.getMessage());
+        }
+        return list;
+    }
+
+    /**
+     * Checks which WebElements of a list are displayed.
+     * <p>
+     * This method reads the visibility of every element with a single script call and does not wait,
+     * so hidden elements are reported as they are.
+     * If an error occurs during this process, an error message is logged and an empty list is returned.
+     *
+     * @param elementsList The list of WebElements to check.
+     * @return A list with true for each displayed element and false for each hidden element.
+     */
+    public List<Boolean> areWebElementsDisplayed(List<WebElement> elementsList) {
+        List<Boolean> list = new ArrayList<>();
+        try {
+            readWebElements(elementsList, null, false).forEach(values -> list.add((Boolean) values.get("displayed")));
+            log.info("Displayed state of {} elements is : {}", list.size(), list);
+        } catch (Exception e) {
+            log.error("Error occurred while getting the displayed state of elements with error : {}", e.getMessage());
+        }
+        return list;
+    }
+
+    /**
+     * Checks which WebElements of a list are enabled.
+     * <p>
+     * This method waits once for the whole list to become visible and then reads the enabled state of every
+     * element with a single script call.
+     * If an error occurs during this process, an error message is logged.
+     *
+     * @param elementsList The list of WebElements to check.
+     * @return A list with true for each enabled element and false for each disabled element.
+     */
+    public List<Boolean> areWebElementsEnabled(List<WebElement> elementsList) {
+        List<Boolean> list = new ArrayList<>();
+        try {
+            readWebElements(elementsList, null, true).forEach(values -> list.add((Boolean) values.get("enabled")));
+            log.info("Enabled state of {} elements is : {}", list.size(), list);
+        } catch (Exception e) {
+            log.error("Error occurred while getting the enabled state of elements with error : {}", e.getMessage());
+        }
+        return list;
+    }
+
+    /**
+     * Reads the text, visibility, enabled state and optionally one attribute of a list of WebElements.
+     * <p>
+     * A {@code @FindBy} list is resolved once per read and all values come back from one executeScript,
+     * so every poll costs two round trips to the driver however long the list is.
+     * When waitForVisibility is true the read is repeated until every element is displayed. An empty list is returned
+     * right away, like the loop over the elements did. If the elements are not displayed within the default wait time,
+     * the values of the last read are returned.
+     * <p>
+     * The text is the innerText of the element with non-breaking spaces replaced and trimmed, and an empty String for
+     * an element that is not displayed, as {@link WebElement#getText()} returns. The browser leaves out hidden
+     * descendants and collapses whitespace for innerText much like getText() does, but the whitespace can still
+     * differ in places, e.g. around line breaks.
+     *
+     * @param elementsList      The list of WebElements to read.
+     * @param attributeName     The attribute to read as well, or null.
+     * @param waitForVisibility true to wait for all elements to be displayed.
+     * @return One map per element with the keys text, displayed, enabled and attribute.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> readWebElements(List<WebElement> elementsList, String attributeName,
+                                                      boolean waitForVisibility) {
+        AtomicReference<List<Map<String, Object>>> lastRead = new AtomicReference<>(List.of());
+        Function<WebDriver, List<Map<String, Object>>> read = webDriver -> {
+            List<Map<String, Object>> values = (List<Map<String, Object>>) ((JavascriptExecutor) webDriver)
+                    .executeScript(BULK_READ_SCRIPT, new ArrayList<>(elementsList), attributeName);
+            lastRead.set(values);
+            return values;
+        };
+        if (!waitForVisibility) {
+            return read.apply(driver);
+        }
+        try {
+            return getWebdriverWait(defaultTime).until(webDriver -> {
+                List<Map<String, Object>> values = read.apply(webDriver);
+                if (values.isEmpty()) {
+                    return values;
+                }
+                boolean allDisplayed = values.stream().allMatch(value -> Boolean.TRUE.equals(value.get("displayed")));
+                return allDisplayed ? values : null;
+            });
+        } catch (TimeoutException e) {
+            log.warn("Not all of the {} elements were visible after {} seconds", lastRead.get().size(), defaultTime);
+            return lastRead.get();
+        }
+    }
+
     /**
      * Selects an option from a dropdown menu by its value.
      * <p>
@@ -613,7 +1022,7 @@ public final class SeleniumUtils {
     public void selectByValue(WebElement element, String value) {
         try {
             waitForElementVisibility(element);
-            String locatorText = getLocatorFromWebElement(element);
+            Object locatorText = getLocatorFromWebElement(element);
             Select select = new Select(element);
             select.selectByValue(value);
             log.info("Selected value : {} from : {}", value, locatorText);
@@ -636,7 +1045,7 @@ public final class SeleniumUtils {
     public void selectByIndex(WebElement element, int index) {
         try {
             waitForElementVisibility(element);
-            String locatorText = getLocatorFromWebElement(element);
+            Object locatorText = getLocatorFromWebElement(element);
             Select select = new Select(element);
             select.selectByIndex(index);
             log.info("Selected index : {} from : {}", index, locatorText);
@@ -659,7 +1068,7 @@ public final class SeleniumUtils {
     public void selectByVisibleText(WebElement element, String visibleText) {
         try {
             waitForElementVisibility(element);
-            String locatorText = getLocatorFromWebElement(element);
+            Object locatorText = getLocatorFromWebElement(element);
             Select select = new Select(element);
             select.selectByVisibleText(visibleText);
             log.info("Selected text : {} from : {}", visibleText, locatorText);
@@ -682,7 +1091,7 @@ public final class SeleniumUtils {
     public void deselectAll(WebElement element) {
         try {
             waitForElementVisibility(element);
-            String locatorText = getLocatorFromWebElement(element);
+            Object locatorText = getLocatorFromWebElement(element);
             Select select = new Select(element);
             select.deselectAll();
             log.info("Deselected @all options from : {}", locatorText);
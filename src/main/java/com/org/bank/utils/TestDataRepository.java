@@ -0,0 +1,102 @@
+package com.org.bank.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.bank.constants.Constants;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This class reads every sheet of the test data workbook once per run and shares the rows with all page objects.
+ * <p>
+ * A sheet is read with Select * the first time it is asked for, and the typed rows of a sheet are mapped once per
+ * model class. A sheet that cannot be read or has no rows is not cached, so the next call reads it again. The column
+ * names are trimmed before mapping, and a column the model class does not know fails the mapping.
+ * <p>
+ * The lists and the raw rows are unmodifiable, so parallel tests can share them without copying. The model objects
+ * are plain beans though, and the same objects are handed to every caller, so a test that changes one changes it for
+ * all tests of the run.
+ */
+@Slf4j
+public final class TestDataRepository {
+
+    private static TestDataRepository testDataRepository;
+
+    private final ExcelUtils excelUtils;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+    private final Map<String, List<Map<String, Object>>> sheets = new ConcurrentHashMap<>();
+    private final Map<String, List<?>> typedSheets = new ConcurrentHashMap<>();
+
+    private TestDataRepository(String filePath) {
+        excelUtils = ExcelUtils.newExcelUtils(filePath);
+    }
+
+    /**
+     * This method returns the repository of the test data workbook shared by every test of the run.
+     *
+     * @return The process-wide {@link TestDataRepository}.
+     */
+    public static synchronized TestDataRepository getTestDataRepository() {
+        if (Objects.isNull(testDataRepository)) {
+            testDataRepository = new TestDataRepository(Constants.EXCEL_FILE_PATH);
+        }
+        return testDataRepository;
+    }
+
+    /**
+     * This method returns the rows of a sheet, reading the sheet on first use.
+     * The keys of a row are the trimmed column names in lower case.
+     *
+     * @param sheetName The name of the sheet, e.g. LoginPage.
+     * @return The unmodifiable rows of the sheet.
+     * @throws IllegalStateException If the sheet cannot be read or has no rows.
+     */
+    public List<Map<String, Object>> getRows(String sheetName) {
+        return sheets.computeIfAbsent(sheetName, key -> {
+            List<Map<String, Object>> rows = excelUtils.fetchData("Select * from " + key).stream()
+                    .map(TestDataRepository::trimColumnNames)
+                    .collect(Collectors.toUnmodifiableList());
+            if (rows.isEmpty()) {
+                throw new IllegalStateException("No rows could be read from sheet : " + key);
+            }
+            log.info("Cached {} rows of sheet : {}", rows.size(), key);
+            return rows;
+        });
+    }
+
+    /**
+     * This method returns the rows of a sheet mapped to a model class, mapping them on first use.
+     *
+     * @param sheetName The name of the sheet, e.g. NewCustomerPage.
+     * @param type      The model class of a row, e.g. NewCustomerPageModal.
+     * @param <T>       The type of the model class.
+     * @return The unmodifiable rows of the sheet as model objects.
+     * @throws IllegalStateException    If the sheet cannot be read or has no rows.
+     * @throws IllegalArgumentException If the sheet has a column the model class does not know.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getRows(String sheetName, Class<T> type) {
+        return (List<T>) typedSheets.computeIfAbsent(sheetName + "#" + type.getName(), key ->
+                getRows(sheetName).stream()
+                        .map(row -> objectMapper.convertValue(row, type))
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * This method returns an unmodifiable copy of a row with the surrounding spaces removed from the column names,
+     * so a header typed as "menuOptions " still maps to its field.
+     */
+    private static Map<String, Object> trimColumnNames(Map<String, Object> row) {
+        Map<String, Object> trimmedRow = new HashMap<>();
+        row.forEach((column, value) -> trimmedRow.put(column.trim(), value));
+        return Collections.unmodifiableMap(trimmedRow);
+    }
+}
@@ -0,0 +1,121 @@
+package com.org.bank.utils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.org.bank.driverfactory.DriverFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * This class owns the wait timeouts of a WebDriver session.
+ * <p>
+ * Implicit waits are set to zero when the policy is created, so an explicit wait is never multiplied by an
+ * implicit wait and a negative check fails after its own timeout. Every call gets its own explicit wait, so a caller
+ * that changes the wait, e.g. with withMessage or ignoring, does not change the waits of other callers.
+ * Timeouts come from Configuration.properties and are resolved once per policy, a page timeout takes precedence
+ * over the timeout of the environment, which takes precedence over the default:
+ * <pre>
+ * wait.timeout.seconds=30
+ * wait.timeout.seconds.qa=45
+ * wait.timeout.seconds.ManagerPage=10
+ * wait.polling.millis=250
+ * wait.optional.millis=2000
+ * </pre>
+ * Checks for optional elements, which may or may not be on the page, use the short optional timeout instead.
+ * The policy of a session is forgotten with {@link #releaseWaitPolicy(WebDriver)} when the session is released.
+ */
+@Slf4j
+public final class WaitPolicy {
+
+    private static final Map<WebDriver, WaitPolicy> WAIT_POLICIES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final String TIMEOUT_KEY = "wait.timeout.seconds";
+
+    private final WebDriver driver;
+    private final Duration pollingInterval;
+    private final Duration environmentTimeout;
+    private final Duration optionalTimeout;
+    private final Map<String, Duration> pageTimeouts = new ConcurrentHashMap<>();
+
+    private WaitPolicy(WebDriver driver) {
+        this.driver = driver;
+        this.pollingInterval = Duration.ofMillis(
+                Long.parseLong(DriverFactory.getConfigurationValue("wait.polling.millis", "250")));
+        String defaultTimeout = DriverFactory.getConfigurationValue(TIMEOUT_KEY, "30");
+        String environment = DriverFactory.getConfigurationValue("env", "");
+        this.environmentTimeout = Duration.ofSeconds(Long.parseLong(environment.isEmpty() ? defaultTimeout
+                : DriverFactory.getConfigurationValue(TIMEOUT_KEY + "." + environment, defaultTimeout)));
+        this.optionalTimeout = Duration.ofMillis(
+                Long.parseLong(DriverFactory.getConfigurationValue("wait.optional.millis", "2000")));
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+    }
+
+    /**
+     * This method returns the wait policy of a session, creating it on first use.
+     * Creating the policy sets the implicit wait of the session to zero.
+     *
+     * @param driver The session to wait on.
+     * @return The {@link WaitPolicy} of the session.
+     */
+    public static WaitPolicy getWaitPolicy(WebDriver driver) {
+        synchronized (WAIT_POLICIES) {
+            return WAIT_POLICIES.computeIfAbsent(driver, WaitPolicy::new);
+        }
+    }
+
+    /**
+     * This method forgets the wait policy of a session. The policy holds the session, so it would otherwise keep
+     * the session from being garbage collected.
+     *
+     * @param driver The session that is released.
+     */
+    public static void releaseWaitPolicy(WebDriver driver) {
+        WAIT_POLICIES.remove(driver);
+    }
+
+    /**
+     * This method returns the timeout of a page.
+     * It reads wait.timeout.seconds.&lt;page&gt;, then wait.timeout.seconds.&lt;env&gt; and then wait.timeout.seconds.
+     * The timeout of a page is read once and then reused.
+     *
+     * @param pageName The simple class name of the page object, or null for the timeout of the environment.
+     * @return The timeout to wait for.
+     */
+    public Duration getTimeout(String pageName) {
+        if (Objects.isNull(pageName)) {
+            return environmentTimeout;
+        }
+        return pageTimeouts.computeIfAbsent(pageName, key -> Duration.ofSeconds(Long.parseLong(
+                DriverFactory.getConfigurationValue(TIMEOUT_KEY + "." + key,
+                        String.valueOf(environmentTimeout.getSeconds())))));
+    }
+
+    /**
+     * This method returns the short timeout of checks for optional elements and of absence checks.
+     * It is read from wait.optional.millis when the policy is created.
+     *
+     * @return The timeout to wait for an optional element.
+     */
+    public Duration getOptionalTimeout() {
+        return optionalTimeout;
+    }
+
+    /**
+     * This method returns a new explicit wait for a timeout, polling at the configured interval.
+     * Missing and stale elements are retried until the timeout.
+     *
+     * @param timeout The maximum time to wait.
+     * @return A {@link WebDriverWait} for the timeout that only the caller uses.
+     */
+    public WebDriverWait getWebDriverWait(Duration timeout) {
+        WebDriverWait webDriverWait = new WebDriverWait(driver, timeout, pollingInterval);
+        webDriverWait.ignoring(StaleElementReferenceException.class);
+        return webDriverWait;
+    }
+}
@@ -0,0 +1,158 @@
+package com.org.bank.driverfactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Runs the GridSessionScheduler against a stub grid that emulates the /status and /session endpoints.
+ */
+public class GridSessionSchedulerTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final AtomicReference<String> status = new AtomicReference<>();
+    private final AtomicInteger sessionRequests = new AtomicInteger();
+    private HttpServer stubGrid;
+    private URL gridUrl;
+    private ExecutorService executorService;
+
+    @BeforeClass(alwaysRun = true)
+    protected void startStubGrid() throws IOException {
+        stubGrid = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubGrid.createContext("/status", exchange -> respond(exchange, status.get()));
+        stubGrid.createContext("/session", exchange -> {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                String sessionId = "session-" + sessionRequests.incrementAndGet();
+                respond(exchange, "{\"value\":{\"sessionId\":\"" + sessionId
+                        + "\",\"capabilities\":{\"browserName\":\"chrome\"}}}");
+            } else {
+                respond(exchange, "{\"value\":null}");
+            }
+        });
+        stubGrid.start();
+        gridUrl = new URL("http://localhost:" + stubGrid.getAddress().getPort());
+        executorService = Executors.newCachedThreadPool();
+    }
+
+    @AfterClass(alwaysRun = true)
+    protected void stopStubGrid() {
+        executorService.shutdownNow();
+        stubGrid.stop(0);
+    }
+
+    @BeforeMethod(alwaysRun = true)
+    protected void resetStubGrid() {
+        sessionRequests.set(0);
+    }
+
+    @Test(description = "Verify a session is created when the grid reports a free slot", groups = {"@grid"})
+    protected void test_session_is_created_when_slot_is_free() {
+        status.set(getStatus(1, 0));
+        GridSessionScheduler scheduler = GridSessionScheduler.newGridSessionScheduler(gridUrl, POLL_INTERVAL);
+        RemoteWebDriver driver = scheduler.schedule("chrome", Duration.ofSeconds(5),
+                () -> new RemoteWebDriver(gridUrl, new ChromeOptions()));
+        Assert.assertEquals(driver.getSessionId().toString(), "session-1");
+        driver.quit();
+    }
+
+    @Test(description = "Verify a request times out locally when the grid is full", groups = {"@grid"})
+    protected void test_request_times_out_when_grid_is_full() {
+        status.set(getStatus(0, 1));
+        GridSessionScheduler scheduler = GridSessionScheduler.newGridSessionScheduler(gridUrl, POLL_INTERVAL);
+        Assert.assertThrows(TimeoutException.class, () -> scheduler.schedule("chrome", Duration.ofMillis(500),
+                () -> new RemoteWebDriver(gridUrl, new ChromeOptions())));
+        Assert.assertEquals(sessionRequests.get(), 0, "No session request should reach a full grid");
+    }
+
+    @Test(description = "Verify a queued request starts once a slot frees up", groups = {"@grid"})
+    protected void test_queued_request_starts_when_slot_frees() throws Exception {
+        status.set(getStatus(0, 1));
+        GridSessionScheduler scheduler = GridSessionScheduler.newGridSessionScheduler(gridUrl, POLL_INTERVAL);
+        Future<RemoteWebDriver> driver = executorService.submit(() -> scheduler.schedule("chrome",
+                Duration.ofSeconds(10), () -> new RemoteWebDriver(gridUrl, new ChromeOptions())));
+        TimeUnit.MILLISECONDS.sleep(300);
+        Assert.assertFalse(driver.isDone(), "Request should wait while the grid is full");
+        status.set(getStatus(1, 0));
+        Assert.assertNotNull(driver.get(5, TimeUnit.SECONDS).getSessionId());
+        Assert.assertEquals(sessionRequests.get(), 1);
+    }
+
+    @Test(description = "Verify queued requests are served in the order they arrived", groups = {"@grid"})
+    protected void test_queued_requests_are_served_in_order() throws Exception {
+        status.set(getStatus(0, 1));
+        GridSessionScheduler scheduler = GridSessionScheduler.newGridSessionScheduler(gridUrl, POLL_INTERVAL);
+        List<String> servedRequests = new CopyOnWriteArrayList<>();
+        Future<?> first = executorService.submit(() -> scheduler.schedule("chrome", Duration.ofSeconds(10),
+                () -> servedRequests.add("first")));
+        TimeUnit.MILLISECONDS.sleep(200);
+        Future<?> second = executorService.submit(() -> scheduler.schedule("chrome", Duration.ofSeconds(10),
+                () -> servedRequests.add("second")));
+        TimeUnit.MILLISECONDS.sleep(200);
+        status.set(getStatus(1, 0));
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(servedRequests, List.of("first", "second"));
+    }
+
+    @Test(description = "Verify a created session keeps its slot while the grid status does not report it yet",
+            groups = {"@grid"})
+    protected void test_created_session_keeps_slot_until_reported() throws Exception {
+        status.set(getStatus(1, 0));
+        GridSessionScheduler scheduler = GridSessionScheduler.newGridSessionScheduler(gridUrl, POLL_INTERVAL);
+        RemoteWebDriver driver = scheduler.schedule("chrome", Duration.ofSeconds(5),
+                () -> new RemoteWebDriver(gridUrl, new ChromeOptions()));
+        Future<RemoteWebDriver> secondDriver = executorService.submit(() -> scheduler.schedule("chrome",
+                Duration.ofSeconds(10), () -> new RemoteWebDriver(gridUrl, new ChromeOptions())));
+        TimeUnit.MILLISECONDS.sleep(250);
+        Assert.assertFalse(secondDriver.isDone(), "A stale status should not hand out the slot of the first session");
+        status.set(getStatus(1, 1).replace("busy-0", driver.getSessionId().toString()));
+        Assert.assertNotNull(secondDriver.get(5, TimeUnit.SECONDS).getSessionId());
+        Assert.assertEquals(sessionRequests.get(), 2);
+    }
+
+    /**
+     * Builds a Grid 4 /status response with one node holding the given chrome slots.
+     */
+    private String getStatus(int freeSlots, int busySlots) {
+        StringBuilder slots = new StringBuilder();
+        for (int i = 0; i < freeSlots + busySlots; i++) {
+            slots.append(i == 0 ? "" : ",")
+                    .append("{\"session\":").append(i < busySlots ? "{\"sessionId\":\"busy-" + i + "\"}" : "null")
+                    .append(",\"stereotype\":{\"browserName\":\"chrome\"}}");
+        }
+        return "{\"value\":{\"ready\":true,\"nodes\":[{\"availability\":\"UP\",\"maxSessions\":"
+                + (freeSlots + busySlots) + ",\"slots\":[" + slots + "]}]}}";
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] response = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.org.bank.driverfactory;
+
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks the buckets and percentiles of the LatencyHistogram.
+ */
+public class LatencyHistogramTest {
+
+    @Test(description = "Verify latencies below 32 microseconds are recorded exactly", groups = {"@unit"})
+    protected void test_small_latencies_are_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(20);
+        Assert.assertEquals(histogram.getSummary().get("maxMillis"), 0.02);
+    }
+
+    @Test(description = "Verify a power of two starts a new bucket", groups = {"@unit"})
+    protected void test_power_of_two_starts_new_bucket() {
+        Assert.assertEquals(getMaxMillis(1023), 1.02);
+        Assert.assertEquals(getMaxMillis(1024), 1.09);
+    }
+
+    @Test(description = "Verify a latency is reported within the bucket precision", groups = {"@unit"})
+    protected void test_latency_is_reported_within_bucket_precision() {
+        for (long micros : new long[]{1_000, 10_000, 123_456, 5_000_000}) {
+            double maxMillis = getMaxMillis(micros);
+            Assert.assertTrue(maxMillis >= micros / 1000.0 && maxMillis <= micros * 1.0625 / 1000.0,
+                    micros + " microseconds were reported as " + maxMillis + " ms");
+        }
+    }
+
+    @Test(description = "Verify negative and overflowing latencies land in the first and last bucket",
+            groups = {"@unit"})
+    protected void test_out_of_range_latencies_are_clamped() {
+        Assert.assertEquals(getMaxMillis(-5), 0.0);
+        Assert.assertEquals(getMaxMillis(Long.MAX_VALUE), 2147483.65);
+    }
+
+    @Test(description = "Verify the percentiles of a recorded distribution", groups = {"@unit"})
+    protected void test_percentiles_of_distribution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(1_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(100_000);
+        }
+        Map<String, Object> summary = histogram.getSummary();
+        Assert.assertEquals(summary.get("count"), 100L);
+        Assert.assertEquals(summary.get("meanMillis"), 10.9);
+        Assert.assertEquals(summary.get("p50Millis"), 1.02);
+        Assert.assertEquals(summary.get("p90Millis"), 1.02);
+        Assert.assertTrue((double) summary.get("p99Millis") >= 100);
+        Assert.assertEquals(summary.get("p99Millis"), summary.get("maxMillis"));
+    }
+
+    @Test(description = "Verify adding a histogram merges its counts", groups = {"@unit"})
+    protected void test_add_merges_counts() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000);
+        LatencyHistogram other = new LatencyHistogram();
+        other.record(3_000);
+        other.record(3_000);
+        histogram.add(other);
+        Map<String, Object> summary = histogram.getSummary();
+        Assert.assertEquals(summary.get("count"), 3L);
+        Assert.assertEquals(summary.get("p50Millis"), getMaxMillis(3_000));
+    }
+
+    @Test(description = "Verify an empty histogram reports zero", groups = {"@unit"})
+    protected void test_empty_histogram_reports_zero() {
+        Map<String, Object> summary = new LatencyHistogram().getSummary();
+        Assert.assertEquals(summary.get("count"), 0L);
+        Assert.assertEquals(summary.get("p99Millis"), 0.0);
+    }
+
+    private double getMaxMillis(long micros) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(micros);
+        return (double) histogram.getSummary().get("maxMillis");
+    }
+}
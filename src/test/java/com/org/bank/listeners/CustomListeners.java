@@ -3,30 +3,48 @@ package com.org.bank.listeners;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import com.aventstack.extentreports.Status;
 import com.org.bank.utils.FileReaderUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
+import org.openqa.selenium.WebDriver;
+import org.testng.IAlterSuiteListener;
 import org.testng.ISuite;
 import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.org.bank.constants.Constants;
 import com.org.bank.constants.WebDriverContext;
+import com.org.bank.driverfactory.CommandLatencyHistograms;
+import com.org.bank.driverfactory.DriverFactory;
+import com.org.bank.driverfactory.LeanNetworkInterceptor;
+import com.org.bank.driverfactory.LocalGrid;
+import com.org.bank.driverfactory.SessionHealthWatchdog;
+import com.org.bank.utils.ClickStrategyMemory;
 import com.org.bank.utils.DbUtils;
 import com.org.bank.utils.ExtentReportUtil;
+import com.org.bank.utils.ScreenshotPipeline;
 import com.org.bank.utils.SeleniumUtils;
 
 @Slf4j
-public class CustomListeners implements ITestListener, ISuiteListener {
+public class CustomListeners implements ITestListener, ISuiteListener, IAlterSuiteListener {
 
     private DbUtils dbUtils;
     private final String TOTAL_TESTS = "Total Test Cases are : %s";
@@ -34,11 +52,14 @@ public class CustomListeners implements ITestListener, ISuiteListener {
     private final String SKIPPED_TESTS = "Skipped Test Cases are : %s";
     private final String FAILED_TESTS = "Failed Test Cases are : %s";
     private final Hashtable<String, Integer> hashtable = new Hashtable<>();
+    private final Map<String, Hashtable<String, Integer>> browserHashtables = new ConcurrentHashMap<>();
     private ExtentReports extentReports;
-    private ExtentTest extentTest;
-    JSONObject jsonObject = new JSONObject();
+    private final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private final ThreadLocal<JSONObject> jsonObject = ThreadLocal.withInitial(JSONObject::new);
 
     public CustomListeners() {
+        // Launch the browser in the background while the database and report set up below
+        DriverFactory.bootstrapWebDriver();
         try {
             FileReaderUtil fileReaderUtil = FileReaderUtil.newFileReaderUtil(Constants.CONFIG_FILE_PATH);
             dbUtils = DbUtils.newDbUtils(fileReaderUtil.getPropertyValue("jdbcUrl"), fileReaderUtil.getPropertyValue("userName"), fileReaderUtil.getPropertyValue("password"));
@@ -59,6 +80,45 @@ public class CustomListeners implements ITestListener, ISuiteListener {
         return new SimpleDateFormat("dd/MM/yyyy HH:mm:ss").format(new Date());
     }
 
+    /**
+     * This method fans every test of the suite out to the browsers listed in fanout.browsers.
+     * Each browser gets a copy of the test named after it with the browser as parameter, and the copies run in
+     * parallel, so a cross-browser run takes about as long as a single browser run.
+     * Without fanout.browsers the suite is left as it is.
+     *
+     * @param suites The suites TestNG is about to run.
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        List<String> browsers = Arrays.stream(DriverFactory.getConfigurationValue("fanout.browsers", "").split(","))
+                .map(String::trim)
+                .filter(browser -> !browser.isEmpty())
+                .map(String::toLowerCase)
+                .distinct()
+                .collect(Collectors.toList());
+        if (browsers.isEmpty()) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            List<XmlTest> fannedOutTests = new ArrayList<>();
+            for (XmlTest xmlTest : new ArrayList<>(suite.getTests())) {
+                for (String browser : browsers) {
+                    XmlTest browserTest = (XmlTest) xmlTest.clone();
+                    browserTest.setName(String.format("%s [%s]", xmlTest.getName(), browser));
+                    browserTest.addParameter("browser", browser);
+                    browserTest.setXmlClasses(xmlTest.getXmlClasses().stream()
+                            .map(xmlClass -> (XmlClass) xmlClass.clone())
+                            .collect(Collectors.toList()));
+                    fannedOutTests.add(browserTest);
+                }
+            }
+            suite.setTests(fannedOutTests);
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(Math.max(suite.getThreadCount(), fannedOutTests.size()));
+            log.info("Fanned out suite : {} to browsers : {} in {} parallel tests", suite.getName(), browsers, fannedOutTests.size());
+        }
+    }
+
     /**
      * This method is called when a TestNG suite starts executing.
      * It initializes the count of total, failed, skipped, and passed tests to 0.
@@ -103,10 +163,13 @@ public class CustomListeners implements ITestListener, ISuiteListener {
      * @param result The result object for the test case that is starting. It contains methods to access test case details.
      */
     public void onTestStart(ITestResult result) {
-        // Create a new test in the extent report with the name of the test case
-        extentTest = extentReports.createTest(result.getName());
+        // Create a new test in the extent report with the name of the test case and the browser it runs on
+        extentTest.set(extentReports.createTest(getTestName(result)));
+        getBrowser(result).ifPresent(browser -> extentTest.get().assignDevice(browser));
+        CommandLatencyHistograms.setTestName(getTestName(result));
 
         // If the jsonObject is not null, print it
+        JSONObject jsonObject = this.jsonObject.get();
         if (Objects.nonNull(jsonObject)) {
             System.out.println(jsonObject.toString(4));
         }
@@ -116,13 +179,19 @@ public class CustomListeners implements ITestListener, ISuiteListener {
         jsonObject.put("testClass", result.getTestClass().getName());
 
         // Store the name of the test case in the JSON object
-        jsonObject.put("testCaseName", result.getName());
+        jsonObject.put("testCaseName", getTestName(result));
 
         // Store the description of the test case in the JSON object
         jsonObject.put("testCaseDescription", result.getMethod().getDescription());
 
         // Log the start of the test case in the extent report
-        extentTest.log(Status.INFO, result.getMethod().getDescription() + " is started");
+        extentTest.get().log(Status.INFO, result.getMethod().getDescription() + " is started");
+
+        // Recycle a degraded browser session before the test case uses it
+        SessionHealthWatchdog.recycleIfUnhealthy(getWebDriver(result));
+
+        // Start counting the network usage of this test case from zero
+        getLeanNetworkInterceptor(result).ifPresent(LeanNetworkInterceptor::resetCounters);
     }
 
     /**
@@ -133,31 +202,37 @@ public class CustomListeners implements ITestListener, ISuiteListener {
      * @param result The result object for the test case that passed. It contains methods to access test case details.
      */
     public void onTestSuccess(ITestResult result) {
-        updateTestResult(PASSED_TESTS);
+        updateTestResult(result, PASSED_TESTS);
         logTestResult(result, "Passed");
-        extentTest.pass(result.getMethod().getDescription() + " is passed");
-        jsonObject.put("testCaseResult", "Passed");
+        logNetworkUsage(result);
+        extentTest.get().pass(result.getMethod().getDescription() + " is passed");
+        jsonObject.get().put("testCaseResult", "Passed");
+        CommandLatencyHistograms.setTestName(null);
     }
 
     /**
      * This method is called when a test case fails in TestNG.
      * It updates the count of failed tests, logs the test result, marks the test as failed in the extent report,
-     * captures a screenshot of the state at the time of failure, and stores the test result and stack trace in a JSON object.
+     * captures a screenshot of the state at the time of failure, marks the session as failed so it is not reused,
+     * and stores the test result and stack trace in a JSON object.
      *
      * @param result The result object for the test case that failed. It contains methods to access test case details.
      */
     public void onTestFailure(ITestResult result) {
-        updateTestResult(FAILED_TESTS);
+        updateTestResult(result, FAILED_TESTS);
         logTestResult(result, "Failed");
-        extentTest.fail(String.format("%s : is failed with error message : %s and stack trace : %s", result.getMethod().getDescription(), result.getThrowable().getMessage(), Arrays.toString(result.getThrowable().getStackTrace())));
+        logNetworkUsage(result);
+        extentTest.get().fail(String.format("%s : is failed with error message : %s and stack trace : %s", result.getMethod().getDescription(), result.getThrowable().getMessage(), Arrays.toString(result.getThrowable().getStackTrace())));
         captureScreenshot(result);
-        jsonObject.put("testCaseResult", "Failed");
-        jsonObject.put("failureStackTrace", Arrays.toString(result.getThrowable().getStackTrace()));
+        DriverFactory.markWebDriverFailed(getWebDriver(result), result.getThrowable());
+        jsonObject.get().put("testCaseResult", "Failed");
+        jsonObject.get().put("failureStackTrace", Arrays.toString(result.getThrowable().getStackTrace()));
         try (FileWriter writer = new FileWriter(Constants.RETRY_FILE_PATH, true)) {
             writer.write(result.getTestClass().getName() + "#" + result.getMethod().getMethodName() + "\n");
         } catch (IOException e) {
             log.error("Stack trace is : {}", Arrays.toString(e.getStackTrace()));
         }
+        CommandLatencyHistograms.setTestName(null);
     }
 
     /**
@@ -168,23 +243,63 @@ public class CustomListeners implements ITestListener, ISuiteListener {
      * @param result The result object for the test case that was skipped. It contains methods to access test case details.
      */
     public void onTestSkipped(ITestResult result) {
-        updateTestResult(SKIPPED_TESTS);
+        updateTestResult(result, SKIPPED_TESTS);
         logTestResult(result, "Skipped");
-        extentTest.skip(String.format("%s : is skipped", result.getName()));
+        logNetworkUsage(result);
+        extentTest.get().skip(String.format("%s : is skipped", result.getName()));
         captureScreenshot(result);
-        jsonObject.put("testCaseResult", "Skipped");
+        jsonObject.get().put("testCaseResult", "Skipped");
+        CommandLatencyHistograms.setTestName(null);
     }
 
     /**
      * This method updates the count of test results in a hashtable.
      * The key represents the type of test result (total, passed, failed, skipped).
      * If the key is not present in the hashtable, it defaults to 0 and then increments the count by 1.
+     * When the test runs on a fanned-out browser, the count of that browser is updated as well.
+     *
+     * @param result The result object for the test case. It contains methods to access test case details.
+     * @param key    The key representing the type of test result.
+     */
+    private void updateTestResult(ITestResult result, String key) {
+        hashtable.merge(TOTAL_TESTS, 1, Integer::sum);
+        hashtable.merge(key, 1, Integer::sum);
+        getBrowser(result).ifPresent(browser -> {
+            Hashtable<String, Integer> browserHashtable = browserHashtables.computeIfAbsent(browser, k -> new Hashtable<>());
+            browserHashtable.merge(TOTAL_TESTS, 1, Integer::sum);
+            browserHashtable.merge(key, 1, Integer::sum);
+        });
+    }
+
+    /**
+     * This method returns the browser a test case runs on when the suite is fanned out to several browsers.
+     *
+     * @param result The result object for the test case. It contains methods to access test case details.
+     * @return The browser parameter of the test, or empty if the test uses the browser of the run.
+     */
+    private Optional<String> getBrowser(ITestResult result) {
+        return Optional.ofNullable(result.getTestContext().getCurrentXmlTest().getParameter("browser"));
+    }
+
+    /**
+     * This method returns the name of a test case, followed by its browser when the suite is fanned out.
      *
-     * @param key The key representing the type of test result.
+     * @param result The result object for the test case. It contains methods to access test case details.
+     * @return The name of the test case.
      */
-    private void updateTestResult(String key) {
-        hashtable.put(TOTAL_TESTS, hashtable.getOrDefault(TOTAL_TESTS, 0) + 1);
-        hashtable.put(key, hashtable.getOrDefault(key, 0) + 1);
+    private String getTestName(ITestResult result) {
+        return getBrowser(result).map(browser -> String.format("%s [%s]", result.getName(), browser))
+                .orElse(result.getName());
+    }
+
+    /**
+     * This method returns the WebDriver session of the test instance the test case runs on.
+     *
+     * @param result The result object for the test case. It contains methods to access test case details.
+     * @return The WebDriver instance of the test instance.
+     */
+    private WebDriver getWebDriver(ITestResult result) {
+        return WebDriverContext.getWebDriverContext(result.getInstance());
     }
 
     /**
@@ -199,22 +314,64 @@ public class CustomListeners implements ITestListener, ISuiteListener {
         String time = String.valueOf(System.currentTimeMillis());
         String date = getCurrentDate();
         String rawQuery = "Insert into test_execution_status (module_name, test_name, test_status, execution_time, execution_date) values ('%s', '%s', '%s', %s, '%s')";
-        String query = String.format(rawQuery, result.getTestClass().getRealClass().getName(), result.getName(), status, time, date);
+        String query = String.format(rawQuery, result.getTestClass().getRealClass().getName(), getTestName(result), status, time, date);
         dbUtils.insertQuery(query);
     }
 
+    /**
+     * This method returns the lean network interceptor of the session used by the test class.
+     *
+     * @param result The result object for the test case. It contains methods to access test case details.
+     * @return The interceptor of the session, or empty if lean network mode is not active.
+     */
+    private Optional<LeanNetworkInterceptor> getLeanNetworkInterceptor(ITestResult result) {
+        return LeanNetworkInterceptor.getLeanNetworkInterceptor(getWebDriver(result));
+    }
+
+    /**
+     * This method logs the requests blocked by the lean network mode during the test case in the extent report.
+     *
+     * @param result The result object for the test case. It contains methods to access test case details.
+     */
+    private void logNetworkUsage(ITestResult result) {
+        getLeanNetworkInterceptor(result).ifPresent(interceptor -> {
+            log.info("{} : {}", result.getName(), interceptor.getSummary());
+            extentTest.get().log(Status.INFO, interceptor.getSummary());
+        });
+    }
+
     /**
      * This method captures a screenshot of the current state of the test case execution.
      * It constructs the screenshot name using the test case name and saves it in the specified directory.
      * It then uses a SeleniumUtils instance to take the screenshot and adds it to the extent report.
+     * The screenshot is written in the background, the report only needs its path.
+     * No screenshot is taken when the test instance has no session any more, e.g. after its session was released.
+     *
+     * @param result The result object for the test case. It contains methods to access test case details.
+     * @return The path of the screenshot, or null if no screenshot was taken.
+     */
+    private String captureScreenshot(ITestResult result) {
+        WebDriver driver = getWebDriver(result);
+        if (Objects.isNull(driver)) {
+            log.warn("No browser session is registered for {}, so no screenshot is taken", getTestName(result));
+            return null;
+        }
+        SeleniumUtils seleniumUtils = SeleniumUtils.newSeleniumUtils(driver);
+        String screenshotName = seleniumUtils.takeWebPageScreenShotInBackground(
+                Constants.SCREEN_SHOT_DIR.concat("/").concat(getScreenshotName(result)));
+        extentTest.get().addScreenCaptureFromPath(screenshotName);
+        return screenshotName;
+    }
+
+    /**
+     * This method returns the file name of the screenshot of a test case, which includes the browser when the
+     * suite is fanned out so the browsers do not overwrite each other's screenshots.
      *
      * @param result The result object for the test case. It contains methods to access test case details.
+     * @return The file name of the screenshot without extension.
      */
-    private void captureScreenshot(ITestResult result) {
-        String screenshotName = Constants.SCREEN_SHOT_DIR.concat("/").concat(result.getName()).concat(".png");
-        SeleniumUtils seleniumUtils = SeleniumUtils.newSeleniumUtils(WebDriverContext.getWebDriverContext(result.getTestClass().getRealClass().getName()));
-        seleniumUtils.takesWebPageScreenShot(screenshotName);
-        extentTest.addScreenCaptureFromPath(screenshotName);
+    private String getScreenshotName(ITestResult result) {
+        return getBrowser(result).map(browser -> result.getName() + "_" + browser).orElse(result.getName());
     }
 
     /**
@@ -225,16 +382,15 @@ public class CustomListeners implements ITestListener, ISuiteListener {
      * @param result The result object for the test case that failed due to a timeout. It contains methods to access test case details.
      */
     public void onTestFailedWithTimeout(ITestResult result) {
-        updateTestResult(FAILED_TESTS);
+        updateTestResult(result, FAILED_TESTS);
         logTestResult(result, "Failed");
-        extentTest.fail(String.format("%s is failed with error message %s", result.getName(), result.getThrowable().getMessage()));
-        String screenshotName = Constants.SCREEN_SHOT_DIR.concat("/").concat(result.getName()).concat(".png");
-        SeleniumUtils seleniumUtils = SeleniumUtils.newSeleniumUtils(WebDriverContext.getWebDriverContext(result.getTestClass().getRealClass().getName()));
-        seleniumUtils.takesWebPageScreenShot(screenshotName);
-        extentTest.addScreenCaptureFromPath(screenshotName);
-        jsonObject.put("screenShotPath", screenshotName);
-        jsonObject.put("testCaseResult", "Failed");
-        jsonObject.put("failureStackTrace", Arrays.toString(result.getThrowable().getStackTrace()));
+        extentTest.get().fail(String.format("%s is failed with error message %s", result.getName(), result.getThrowable().getMessage()));
+        String screenshotName = captureScreenshot(result);
+        DriverFactory.markWebDriverFailed(getWebDriver(result), result.getThrowable());
+        jsonObject.get().put("screenShotPath", screenshotName);
+        jsonObject.get().put("testCaseResult", "Failed");
+        jsonObject.get().put("failureStackTrace", Arrays.toString(result.getThrowable().getStackTrace()));
+        CommandLatencyHistograms.setTestName(null);
     }
 
     /**
@@ -244,7 +400,7 @@ public class CustomListeners implements ITestListener, ISuiteListener {
      * @param context The test context that has finished execution. It contains methods to access test context details.
      */
     public void onFinish(ITestContext context) {
-        System.out.println(jsonObject.toString(4));
+        System.out.println(jsonObject.get().toString(4));
         int total = context.getAllTestMethods().length;
         int passed = context.getPassedTests().size();
         int failed = context.getFailedTests().size();
@@ -259,14 +415,19 @@ public class CustomListeners implements ITestListener, ISuiteListener {
     /**
      * This method is called when a TestNG suite finishes executing.
      * It updates the total test count in the hashtable with the total number of methods in the suite.
-     * It then prints the count of test cases, logs the status of the test suite, flushes the extent reports, and prints a message indicating the completion of execution.
+     * It then prints the count of test cases, logs the status of the test suite, writes the command latency histograms, flushes the extent reports, quits the driver sessions no test is using, stops the local grid and prints a message indicating the completion of execution.
      *
      * @param suite The TestNG suite that has finished execution. It contains methods to access suite details.
      */
     public void onFinish(ISuite suite) {
         printTestCaseCount();
         logTestSuiteStatus();
+        ScreenshotPipeline.getScreenshotPipeline().awaitPendingScreenshots();
+        CommandLatencyHistograms.writeHistograms(Constants.COMMAND_LATENCY_FILE_PATH);
         extentReports.flush();
+        DriverFactory.shutdownIdleWebDrivers();
+        LocalGrid.stop();
+        log.info("Clicks of the suite : {}", ClickStrategyMemory.getSummary());
         printExecutionCompletionMessage();
     }
 
@@ -274,12 +435,19 @@ public class CustomListeners implements ITestListener, ISuiteListener {
     /**
      * This method prints the count of test cases for each status (total, passed, failed, skipped).
      * It constructs a string with the count of test cases for each status and prints it to the console and the log.
+     * When the suite was fanned out, the counts of every browser follow the overall counts.
      */
     private void printTestCaseCount() {
         StringBuilder testCaseCount = new StringBuilder();
         for (String key : hashtable.keySet()) {
             testCaseCount.append(" ").append(String.format(key, hashtable.get(key))).append("\n");
         }
+        browserHashtables.forEach((browser, browserHashtable) -> {
+            testCaseCount.append(" On ").append(browser).append(" :\n");
+            for (String key : browserHashtable.keySet()) {
+                testCaseCount.append("  ").append(String.format(key, browserHashtable.get(key))).append("\n");
+            }
+        });
         System.out.println(testCaseCount);
         log.info(testCaseCount.toString());
     }
@@ -1,6 +1,7 @@
 package com.org.bank.tests;
 
 import com.epam.reportportal.testng.ReportPortalTestNGListener;
+import org.testng.ITestContext;
 import org.testng.annotations.*;
 import com.org.bank.constants.WebDriverContext;
 import com.org.bank.driverfactory.DriverFactory;
@@ -16,9 +17,9 @@ public class CredPageTest {
 	public DriverFactory driverFactory;
 
 	@BeforeClass(alwaysRun = true)
-	protected void initialization() {
-		driverFactory = DriverFactory.newDriverFactory();
-		WebDriverContext.setWebDriverContext(CredPageTest.class.getName(), driverFactory.getWebDriver());
+	protected void initialization(ITestContext testContext) {
+		driverFactory = DriverFactory.newDriverFactory(testContext.getCurrentXmlTest().getParameter("browser"));
+		WebDriverContext.setWebDriverContext(this, driverFactory.getWebDriver());
 		basePage = BasePage.newBasePage(driverFactory.getWebDriver());
 		credPage = CredPage.newCredPage(driverFactory.getWebDriver());
 		basePage.initialization();
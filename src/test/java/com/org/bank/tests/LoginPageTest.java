@@ -3,6 +3,7 @@ package com.org.bank.tests;
 import com.epam.reportportal.testng.ReportPortalTestNGListener;
 import com.org.bank.listeners.CustomListeners;
 import org.testng.Assert;
+import org.testng.ITestContext;
 import org.testng.annotations.*;
 import org.testng.asserts.SoftAssert;
 import com.org.bank.constants.WebDriverContext;
@@ -20,9 +21,9 @@ public class LoginPageTest {
     private SoftAssert softAssert;
 
     @BeforeClass(alwaysRun = true)
-    protected void initialization() {
-        driverFactory = DriverFactory.newDriverFactory();
-        WebDriverContext.setWebDriverContext(LoginPageTest.class.getName(), driverFactory.getWebDriver());
+    protected void initialization(ITestContext testContext) {
+        driverFactory = DriverFactory.newDriverFactory(testContext.getCurrentXmlTest().getParameter("browser"));
+        WebDriverContext.setWebDriverContext(this, driverFactory.getWebDriver());
         basePage = BasePage.newBasePage(driverFactory.getWebDriver());
         loginPage = LoginPage.newLoginPage(driverFactory.getWebDriver());
         CredPage credPage = CredPage.newCredPage(driverFactory.getWebDriver());
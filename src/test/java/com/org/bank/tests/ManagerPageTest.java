@@ -7,6 +7,7 @@ import com.org.bank.constants.CredModalContext;
 import com.org.bank.listeners.CustomListeners;
 import com.org.bank.models.CredModal;
 import org.testng.Assert;
+import org.testng.ITestContext;
 import org.testng.annotations.*;
 import org.testng.asserts.SoftAssert;
 import com.org.bank.constants.WebDriverContext;
@@ -27,9 +28,9 @@ public class ManagerPageTest {
     private String userName;
 
     @BeforeClass(alwaysRun = true)
-    protected void initialization() {
-        DriverFactory driverFactory = DriverFactory.newDriverFactory();
-        WebDriverContext.setWebDriverContext(ManagerPageTest.class.getName(), driverFactory.getWebDriver());
+    protected void initialization(ITestContext testContext) {
+        DriverFactory driverFactory = DriverFactory.newDriverFactory(testContext.getCurrentXmlTest().getParameter("browser"));
+        WebDriverContext.setWebDriverContext(this, driverFactory.getWebDriver());
         basePage = BasePage.newBasePage(driverFactory.getWebDriver());
         LoginPage loginPage = LoginPage.newLoginPage(driverFactory.getWebDriver());
         CredPage credPage = CredPage.newCredPage(driverFactory.getWebDriver());
@@ -1,5 +1,6 @@
 package com.org.bank.tests;
 
+import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
 
@@ -7,7 +8,9 @@ import com.epam.reportportal.testng.ReportPortalTestNGListener;
 import com.org.bank.constants.CredModalContext;
 import com.org.bank.listeners.CustomListeners;
 import com.org.bank.models.CredModal;
+import com.org.bank.models.CustomerModal;
 import org.testng.Assert;
+import org.testng.ITestContext;
 import org.testng.annotations.*;
 import org.testng.asserts.SoftAssert;
 import com.org.bank.constants.WebDriverContext;
@@ -27,9 +30,9 @@ public class NewCustomerPageTest {
     private boolean isLoginSuccessful;
 
     @BeforeClass(alwaysRun = true)
-    protected void initialization() {
-        DriverFactory driverFactory = DriverFactory.newDriverFactory();
-        WebDriverContext.setWebDriverContext(ManagerPageTest.class.getName(), driverFactory.getWebDriver());
+    protected void initialization(ITestContext testContext) {
+        DriverFactory driverFactory = DriverFactory.newDriverFactory(testContext.getCurrentXmlTest().getParameter("browser"));
+        WebDriverContext.setWebDriverContext(this, driverFactory.getWebDriver());
         basePage = BasePage.newBasePage(driverFactory.getWebDriver());
         LoginPage loginPage = LoginPage.newLoginPage(driverFactory.getWebDriver());
         CredPage credPage = CredPage.newCredPage(driverFactory.getWebDriver());
@@ -194,6 +197,29 @@ public class NewCustomerPageTest {
         Assert.assertEquals(actualLabel, expectedLabel, String.format("Actual messages are : %s and expected messages are : %s", actualLabel, expectedLabel));
     }
 
+    @Test(testName = "Verify new customer form with valid details", description = "Verify a valid customer fills the new customer form without validation messages", groups = {"@all", "@sanity", "@newCustomer"}, priority = 22)
+    protected void test_new_customer_form_with_valid_details() {
+        if (!isLoginSuccessful) {
+            Assert.fail("Login is not successful");
+            return;
+        }
+
+        CustomerModal customer = CustomerModal.builder()
+                .customerName("John Smith")
+                .dateOfBirth("1990-01-15")
+                .address("Baker Street")
+                .city("Pune")
+                .state("Maharashtra")
+                .pinCode("411001")
+                .mobileNumber("9876543210")
+                .emailId("john.smith@example.com")
+                .password("Passw0rd")
+                .build();
+        List<String> actualMessages = newCustomerPage.fillNewCustomerForm(customer).getNewCustomerFormValidationMessages();
+        List<String> expectedMessages = Collections.nCopies(actualMessages.size(), "");
+        Assert.assertEquals(actualMessages, expectedMessages, String.format("Actual messages are : %s and expected messages are : %s", actualMessages, expectedMessages));
+    }
+
     @DataProvider(name = "customerField")
     public Object[][] customerFieldDataProvider() {
         return newCustomerPage.getCustomerFieldDataProvider();
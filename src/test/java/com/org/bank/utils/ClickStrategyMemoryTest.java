@@ -0,0 +1,55 @@
+package com.org.bank.utils;
+
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks how the ClickStrategyMemory learns and forgets the click strategy of a locator.
+ * Every test uses its own locator, as the memory is shared by the whole run.
+ */
+public class ClickStrategyMemoryTest {
+
+    @Test(description = "Verify an unknown locator tries the strategies in their default order", groups = {"@unit"})
+    protected void test_unknown_locator_uses_default_order() {
+        Assert.assertEquals(ClickStrategyMemory.getClickStrategies("By.id: unknown"),
+                List.of(ClickStrategy.NATIVE, ClickStrategy.ACTIONS, ClickStrategy.JAVASCRIPT));
+    }
+
+    @Test(description = "Verify the strategy that clicked a locator is tried first", groups = {"@unit"})
+    protected void test_successful_strategy_is_learned() {
+        String locator = "By.id: learned";
+        ClickStrategyMemory.recordClick(locator, ClickStrategy.JAVASCRIPT);
+        Assert.assertEquals(ClickStrategyMemory.getClickStrategies(locator),
+                List.of(ClickStrategy.JAVASCRIPT, ClickStrategy.NATIVE, ClickStrategy.ACTIONS));
+    }
+
+    @Test(description = "Verify a learned strategy is forgotten when it fails", groups = {"@unit"})
+    protected void test_failed_strategy_is_forgotten() {
+        String locator = "By.id: forgotten";
+        ClickStrategyMemory.recordClick(locator, ClickStrategy.ACTIONS);
+        ClickStrategyMemory.recordFailure(locator, ClickStrategy.ACTIONS);
+        Assert.assertEquals(ClickStrategyMemory.getClickStrategies(locator),
+                List.of(ClickStrategy.NATIVE, ClickStrategy.ACTIONS, ClickStrategy.JAVASCRIPT));
+    }
+
+    @Test(description = "Verify the failure of another strategy keeps the learned one", groups = {"@unit"})
+    protected void test_failure_of_other_strategy_keeps_learned_one() {
+        String locator = "By.id: kept";
+        ClickStrategyMemory.recordClick(locator, ClickStrategy.JAVASCRIPT);
+        ClickStrategyMemory.recordFailure(locator, ClickStrategy.NATIVE);
+        Assert.assertEquals(ClickStrategyMemory.getClickStrategies(locator).get(0), ClickStrategy.JAVASCRIPT);
+    }
+
+    @Test(description = "Verify a click with the learned strategy is counted as learned", groups = {"@unit"})
+    protected void test_click_with_learned_strategy_is_counted() {
+        String locator = "By.id: counted";
+        long clicks = ClickStrategyMemory.getClickCount(ClickStrategy.ACTIONS);
+        long learnedClicks = ClickStrategyMemory.getLearnedClickCount(ClickStrategy.ACTIONS);
+        ClickStrategyMemory.recordClick(locator, ClickStrategy.ACTIONS);
+        ClickStrategyMemory.recordClick(locator, ClickStrategy.ACTIONS);
+        Assert.assertEquals(ClickStrategyMemory.getClickCount(ClickStrategy.ACTIONS) - clicks, 2);
+        Assert.assertEquals(ClickStrategyMemory.getLearnedClickCount(ClickStrategy.ACTIONS) - learnedClicks, 1);
+    }
+}
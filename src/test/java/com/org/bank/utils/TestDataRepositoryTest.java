@@ -0,0 +1,62 @@
+package com.org.bank.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.org.bank.models.LoginPageModal;
+import com.org.bank.models.ManagerPageModal;
+import com.org.bank.models.NewCustomerPageModal;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the TestDataRepository reads the test data workbook once and hands out read-only rows.
+ */
+public class TestDataRepositoryTest {
+
+    private static final String SHEET_NAME = "LoginPage";
+
+    private final TestDataRepository testDataRepository = TestDataRepository.getTestDataRepository();
+
+    @Test(description = "Verify the repository is shared by the run", groups = {"@unit"})
+    protected void test_repository_is_shared() {
+        Assert.assertSame(TestDataRepository.getTestDataRepository(), testDataRepository);
+    }
+
+    @Test(description = "Verify a sheet is read once and its rows are reused", groups = {"@unit"})
+    protected void test_rows_are_cached() {
+        List<Map<String, Object>> rows = testDataRepository.getRows(SHEET_NAME);
+        Assert.assertFalse(rows.isEmpty(), "The sheet " + SHEET_NAME + " should have rows");
+        Assert.assertSame(testDataRepository.getRows(SHEET_NAME), rows);
+    }
+
+    @Test(description = "Verify the rows of a sheet cannot be changed", groups = {"@unit"})
+    protected void test_rows_are_unmodifiable() {
+        List<Map<String, Object>> rows = testDataRepository.getRows(SHEET_NAME);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> rows.add(new HashMap<>()));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> rows.get(0).put("title", "changed"));
+    }
+
+    @Test(description = "Verify typed rows are mapped once per model class and cannot be changed", groups = {"@unit"})
+    protected void test_typed_rows_are_cached_and_unmodifiable() {
+        List<LoginPageModal> rows = testDataRepository.getRows(SHEET_NAME, LoginPageModal.class);
+        Assert.assertEquals(rows.size(), testDataRepository.getRows(SHEET_NAME).size());
+        Assert.assertSame(testDataRepository.getRows(SHEET_NAME, LoginPageModal.class), rows);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> rows.remove(0));
+    }
+
+    @Test(description = "Verify every column of the sheets maps to a field of its model class", groups = {"@unit"})
+    protected void test_sheets_map_to_their_models() {
+        Assert.assertFalse(testDataRepository.getRows("ManagerPage", ManagerPageModal.class).isEmpty());
+        Assert.assertNotNull(testDataRepository.getRows("ManagerPage", ManagerPageModal.class).get(0).getMenuOptions(),
+                "The menuOptions column should map despite the space in its header");
+        Assert.assertFalse(testDataRepository.getRows("NewCustomerPage", NewCustomerPageModal.class).isEmpty());
+    }
+
+    @Test(description = "Verify a sheet that cannot be read fails and is not cached", groups = {"@unit"})
+    protected void test_unreadable_sheet_is_not_cached() {
+        Assert.assertThrows(IllegalStateException.class, () -> testDataRepository.getRows("MissingSheet"));
+        Assert.assertThrows(IllegalStateException.class, () -> testDataRepository.getRows("MissingSheet"));
+    }
+}